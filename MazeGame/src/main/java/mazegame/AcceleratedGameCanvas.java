@@ -0,0 +1,114 @@
+package mazegame;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
+
+/**
+ * Desktop game view that keeps the whole frame in video memory. The game draws into a {@link
+ * VolatileImage} at the logical resolution; {@link #showFrame()} scales it onto the back buffer of
+ * a {@link BufferStrategy} and flips, so neither the frame nor the scaling passes through system
+ * memory or Swing's repaint manager.
+ *
+ * <p>Video memory can be lost at any time (display mode changes, another full-screen application, a
+ * locked session). The frame image is re-validated before each frame and recreated if it no longer
+ * matches the screen; a frame whose contents were lost is dropped rather than shown, since the next
+ * one repaints everything. The flip loop follows the {@link BufferStrategy} contract and redraws
+ * while the back buffer is restored or lost.
+ *
+ * <p>Painting is driven by the game loop only ({@link #setIgnoreRepaint(boolean) repaints are
+ * ignored}). The canvas is not focusable, so keyboard focus stays on the Swing pane and its key
+ * bindings keep working. Used from the EDT only.
+ */
+public class AcceleratedGameCanvas extends Canvas implements GameView {
+
+  private static final int BUFFER_COUNT = 2;
+
+  private VolatileImage frame;
+
+  public AcceleratedGameCanvas() {
+    setBackground(Color.BLACK);
+    setIgnoreRepaint(true);
+    setFocusable(false);
+  }
+
+  @Override
+  public Component getComponent() {
+    return this;
+  }
+
+  @Override
+  public Graphics beginFrame(int width, int height) {
+    GraphicsConfiguration gc = getGraphicsConfiguration();
+    if (gc == null || !isDisplayable()) {
+      return null;
+    }
+    if (frame == null
+        || frame.getWidth() != width
+        || frame.getHeight() != height
+        || frame.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+      if (frame != null) {
+        frame.flush();
+      }
+      frame = gc.createCompatibleVolatileImage(width, height);
+    }
+    return frame.createGraphics();
+  }
+
+  @Override
+  public void showFrame() {
+    VolatileImage img = frame;
+    int cw = getWidth();
+    int ch = getHeight();
+    if (img == null || img.contentsLost() || !isDisplayable() || cw <= 0 || ch <= 0) {
+      return;
+    }
+    BufferStrategy strategy = getBufferStrategy();
+    if (strategy == null) {
+      createBufferStrategy(BUFFER_COUNT);
+      strategy = getBufferStrategy();
+    }
+
+    // Uniform scale preserving aspect ratio
+    int imgW = img.getWidth();
+    int imgH = img.getHeight();
+    double scale = Math.min((double) cw / imgW, (double) ch / imgH);
+    int scaledW = (int) (imgW * scale);
+    int scaledH = (int) (imgH * scale);
+    int offsetX = (cw - scaledW) / 2;
+    int offsetY = (ch - scaledH) / 2;
+
+    do {
+      do {
+        Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+        try {
+          g.setColor(Color.BLACK);
+          g.fillRect(0, 0, cw, ch);
+          g.setRenderingHint(
+              RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+          g.drawImage(img, offsetX, offsetY, scaledW, scaledH, null);
+        } finally {
+          g.dispose();
+        }
+      } while (strategy.contentsRestored());
+      strategy.show();
+    } while (strategy.contentsLost());
+    Toolkit.getDefaultToolkit().sync();
+  }
+
+  @Override
+  public void removeNotify() {
+    super.removeNotify();
+    if (frame != null) {
+      frame.flush();
+      frame = null;
+    }
+  }
+}
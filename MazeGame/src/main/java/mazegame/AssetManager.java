@@ -19,6 +19,14 @@ import javax.swing.Timer;
 /**
  * Manages loading, caching, and retrieval of all game assets including images, sprite animation
  * frames, and level data persistence.
+ *
+ * <p>Game sprites (tiles, keys, dog frames) are also packed into a {@link SpriteAtlas} and given
+ * {@code int} ids when they load, so the renderer never builds or hashes image names per frame. The
+ * name-keyed cache stays for menus and one-off images.
+ *
+ * <p>Every image is converted to the display's pixel format as it loads (see {@link
+ * CompatibleImages}), and {@link #getScaledAtlas(int)} keeps one copy of the atlas per tile size
+ * with each sprite already resampled, so the per-frame draws are unscaled copies.
  */
 public class AssetManager {
 
@@ -26,18 +34,38 @@ public class AssetManager {
   private static final String RESET_DATA_RESOURCE = "Assets/data/ResetData.txt";
   private static final String LEVEL_DATA_FILE = "LevelData.txt";
 
+  /** Dog walking direction, see {@link #getDogSprites(GameSettings.DogSkin, int)}. */
+  public static final int NORTH = 0;
+
+  /** Dog walking direction. */
+  public static final int EAST = 1;
+
+  /** Dog walking direction. */
+  public static final int SOUTH = 2;
+
+  /** Dog walking direction. */
+  public static final int WEST = 3;
+
   private static final int KEY_FRAME_COUNT = 20;
-  private static final int DOG_EAST_FRAME_COUNT = 7;
-  private static final int DOG_WEST_FRAME_COUNT = 7;
-  private static final int DOG_NORTH_FRAME_COUNT = 6;
-  private static final int DOG_SOUTH_FRAME_COUNT = 6;
+  private static final int[] DOG_FRAME_COUNTS = {6, 7, 6, 7};
+  private static final String[] DOG_DIRECTION_KEYS = {"North", "East", "South", "West"};
+  private static final String[] DOG_DIRECTION_FILES = {"north", "right", "south", "left"};
   private static final int GRASS_VARIANT_COUNT = 4;
   private static final int WALL_COMBINATIONS = 16;
   private static final int ANIMATION_TICK_MS = 100;
 
   private final HashMap<String, BufferedImage> preloadedImages = new HashMap<>();
+  private final SpriteAtlas atlas = new SpriteAtlas();
+  private final HashMap<Integer, SpriteAtlas> scaledAtlases = new HashMap<>();
+  private final int[] grassSprites = new int[GRASS_VARIANT_COUNT];
+  private final int[] wallSprites = new int[WALL_COMBINATIONS];
+  private final int[] keySprites = new int[KEY_FRAME_COUNT];
+  private final int[][][] dogSprites = new int[GameSettings.DogSkin.values().length][4][];
+  private int lockedExitSprite;
+  private int openExitSprite;
   private final Timer animationTimer;
   private int keyFrameIndex;
+  private boolean imagesLoaded;
 
   /** Creates a new AssetManager and starts the key animation timer. */
   public AssetManager() {
@@ -121,16 +149,24 @@ public class AssetManager {
     return preloadedImages.get(key);
   }
 
+  /**
+   * Returns the wall sprite for a neighbour mask. Kept for callers that need an image; the renderer
+   * draws {@link #getWallSprite(int)} from the atlas.
+   *
+   * @param mask NESW bitmask (0-15), see {@link MazeGrid#getWallMask(int, int)}
+   * @return the sprite image, or {@code null} before preloading
+   */
+  public BufferedImage getWallImage(int mask) {
+    return imagesLoaded ? atlas.getImage(wallSprites[mask & 0x0F]) : null;
+  }
+
   /**
    * Returns the current key animation frame based on the internal timer.
    *
-   * @return the current key frame image
+   * @return the current key frame image, or {@code null} before preloading
    */
   public BufferedImage getKeyFrame() {
-    if (keyFrameIndex >= KEY_FRAME_COUNT) {
-      keyFrameIndex = 0;
-    }
-    return preloadedImages.get("Key_" + keyFrameIndex);
+    return imagesLoaded ? atlas.getImage(getKeySprite()) : null;
   }
 
   /**
@@ -140,93 +176,157 @@ public class AssetManager {
    * @return the key frame image on even ticks, {@code null} on odd ticks
    */
   public BufferedImage getBlinkingKeyFrame() {
+    int sprite = getBlinkingKeySprite();
+    return imagesLoaded && sprite >= 0 ? atlas.getImage(sprite) : null;
+  }
+
+  // ---------------------------------------------------------------------------
+  // Sprite ids, resolved once by preloadImages() — draw them with getAtlas()
+  // ---------------------------------------------------------------------------
+
+  /** Returns the atlas every game sprite is packed into; valid after {@link #preloadImages()}. */
+  public SpriteAtlas getAtlas() {
+    return atlas;
+  }
+
+  /**
+   * Returns the atlas with every sprite pre-scaled to a square of the given size, built on first
+   * use and cached per size. Sprite ids are the same as in {@link #getAtlas()}.
+   *
+   * @param size sprite width and height in pixels, normally the tile size
+   * @return the scaled atlas
+   */
+  public SpriteAtlas getScaledAtlas(int size) {
+    SpriteAtlas scaled = scaledAtlases.get(size);
+    if (scaled == null) {
+      scaled = atlas.scaled(size);
+      scaledAtlases.put(size, scaled);
+    }
+    return scaled;
+  }
+
+  /** Returns the sprite id of a grass variant (0-3). */
+  public int getGrassSprite(int variant) {
+    return grassSprites[variant];
+  }
+
+  /** Returns the sprite id of the wall for a NESW neighbour mask (0-15). */
+  public int getWallSprite(int mask) {
+    return wallSprites[mask & 0x0F];
+  }
+
+  /** Returns the sprite id of the locked or open exit. */
+  public int getExitSprite(boolean open) {
+    return open ? openExitSprite : lockedExitSprite;
+  }
+
+  /** Returns the sprite id of the current key animation frame. */
+  public int getKeySprite() {
     if (keyFrameIndex >= KEY_FRAME_COUNT) {
       keyFrameIndex = 0;
     }
-    if (keyFrameIndex % 2 == 0) {
-      return preloadedImages.get("Key_" + keyFrameIndex);
+    return keySprites[keyFrameIndex];
+  }
+
+  /** Returns the current key frame's sprite id on even ticks, or -1 on odd ticks (blinking). */
+  public int getBlinkingKeySprite() {
+    if (keyFrameIndex >= KEY_FRAME_COUNT) {
+      keyFrameIndex = 0;
     }
-    return null;
+    return keyFrameIndex % 2 == 0 ? keySprites[keyFrameIndex] : -1;
+  }
+
+  /**
+   * Returns a skin's walking animation as sprite ids, in frame order.
+   *
+   * @param skin the dog skin
+   * @param direction {@link #NORTH}, {@link #EAST}, {@link #SOUTH} or {@link #WEST}
+   * @return a new array of frame sprite ids
+   */
+  public int[] getDogSprites(GameSettings.DogSkin skin, int direction) {
+    return dogSprites[skin.ordinal()][direction].clone();
   }
 
   /**
-   * Preloads all game images into the cache. Must be called before rendering.
+   * Preloads all game images into the cache and packs the game sprites into the {@link
+   * SpriteAtlas}. Must be called before rendering. Images are decoded once; later calls (e.g. from
+   * each level's {@link Renderer}) return immediately.
    *
    * @throws IOException if any image resource cannot be loaded
    */
   public void preloadImages() throws IOException {
+    if (imagesLoaded) {
+      return;
+    }
     ImageIO.setUseCache(false);
 
     // Grass passage variants
     for (int i = 0; i < GRASS_VARIANT_COUNT; i++) {
-      loadImage("GrassPassage_" + i, "Assets/tiles/passages/GrassPassage_" + i + ".png");
+      grassSprites[i] =
+          loadSprite("GrassPassage_" + i, "Assets/tiles/passages/GrassPassage_" + i + ".png");
     }
 
     // Exit tiles
-    loadImage("Locked Exit", "Assets/tiles/exits/ExitLocked.png");
-    loadImage("Open Exit", "Assets/tiles/exits/ExitUnlocked.png");
+    lockedExitSprite = loadSprite("Locked Exit", "Assets/tiles/exits/ExitLocked.png");
+    openExitSprite = loadSprite("Open Exit", "Assets/tiles/exits/ExitUnlocked.png");
 
     // Key animation frames
     for (int i = 0; i < KEY_FRAME_COUNT; i++) {
-      loadImage("Key_" + i, "Assets/items/keys/Key_" + i + ".png");
+      keySprites[i] = loadSprite("Key_" + i, "Assets/items/keys/Key_" + i + ".png");
     }
 
-    // Dog animation frames (Sasso skin — original)
-    for (int i = 0; i < DOG_NORTH_FRAME_COUNT; i++) {
-      loadImage("sassoNorth" + i, "Assets/skins/sasso/north_" + i + ".png");
-    }
-    for (int i = 0; i < DOG_EAST_FRAME_COUNT; i++) {
-      loadImage("sassoEast" + i, "Assets/skins/sasso/right_" + i + ".png");
-    }
-    for (int i = 0; i < DOG_SOUTH_FRAME_COUNT; i++) {
-      loadImage("sassoSouth" + i, "Assets/skins/sasso/south_" + i + ".png");
-    }
-    for (int i = 0; i < DOG_WEST_FRAME_COUNT; i++) {
-      loadImage("sassoWest" + i, "Assets/skins/sasso/left_" + i + ".png");
-    }
-
-    // Dog animation frames (Wesley skin — new default)
-    for (int i = 0; i < DOG_NORTH_FRAME_COUNT; i++) {
-      loadImage("wesleyNorth" + i, "Assets/skins/wesley/north_" + i + ".png");
-    }
-    for (int i = 0; i < DOG_EAST_FRAME_COUNT; i++) {
-      loadImage("wesleyEast" + i, "Assets/skins/wesley/right_" + i + ".png");
-    }
-    for (int i = 0; i < DOG_SOUTH_FRAME_COUNT; i++) {
-      loadImage("wesleySouth" + i, "Assets/skins/wesley/south_" + i + ".png");
-    }
-    for (int i = 0; i < DOG_WEST_FRAME_COUNT; i++) {
-      loadImage("wesleyWest" + i, "Assets/skins/wesley/left_" + i + ".png");
-    }
-
-    // Wall variants — all 16 NESW neighbour combinations
-    for (int n = 0; n <= 1; n++) {
-      for (int e = 0; e <= 1; e++) {
-        for (int s = 0; s <= 1; s++) {
-          for (int w = 0; w <= 1; w++) {
-            String id = "wall_" + n + e + s + w;
-            loadImage(id, "Assets/tiles/walls/" + id + ".png");
-          }
+    // Dog animation frames for every skin, keyed e.g. "wesleyEast0"
+    for (GameSettings.DogSkin skin : GameSettings.DogSkin.values()) {
+      for (int direction = NORTH; direction <= WEST; direction++) {
+        int[] frames = new int[DOG_FRAME_COUNTS[direction]];
+        for (int i = 0; i < frames.length; i++) {
+          frames[i] =
+              loadSprite(
+                  skin.prefix() + DOG_DIRECTION_KEYS[direction] + i,
+                  "Assets/skins/"
+                      + skin.prefix()
+                      + "/"
+                      + DOG_DIRECTION_FILES[direction]
+                      + "_"
+                      + i
+                      + ".png");
         }
+        dogSprites[skin.ordinal()][direction] = frames;
       }
     }
 
+    // Wall variants — all 16 NESW neighbour combinations, indexed by mask
+    for (int mask = 0; mask < WALL_COMBINATIONS; mask++) {
+      String id = TileWall.imageId(mask);
+      wallSprites[mask] = loadSprite(id, "Assets/tiles/walls/" + id + ".png");
+    }
+    atlas.pack();
+
     // Wesley pixel art (used as menu decoration)
     loadImage("wesleyPixel", "Assets/ui/wesley-pixel.png");
 
     // Splash screen mask image
     loadImage("splashMask", "Assets/ui/splash_mask.png");
+    imagesLoaded = true;
+  }
+
+  /** Loads and caches an image as {@link #loadImage} does, and registers it with the atlas. */
+  private int loadSprite(String cacheKey, String resourcePath) throws IOException {
+    return atlas.add(loadImage(cacheKey, resourcePath));
   }
 
   /**
-   * Loads a single image from the classpath and caches it.
+   * Loads a single image from the classpath, converts it to the display format and caches it.
    *
    * @param cacheKey the key to store the image under
    * @param resourcePath the classpath-relative resource path
+   * @return the image
    * @throws IOException if the image cannot be read
    */
-  private void loadImage(String cacheKey, String resourcePath) throws IOException {
-    BufferedImage img = ImageIO.read(getClass().getResourceAsStream(resourcePath));
+  private BufferedImage loadImage(String cacheKey, String resourcePath) throws IOException {
+    BufferedImage decoded = ImageIO.read(getClass().getResourceAsStream(resourcePath));
+    BufferedImage img = CompatibleImages.scaled(decoded, decoded.getWidth(), decoded.getHeight());
     preloadedImages.put(cacheKey, img);
+    return img;
   }
 }
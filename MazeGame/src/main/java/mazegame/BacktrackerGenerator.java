@@ -0,0 +1,22 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+
+/**
+ * Depth-first recursive backtracker. Produces long, winding corridors with few dead ends, which is
+ * what the campaign levels are tuned for. Delegates to the iterative engine in {@link
+ * RecursiveBacktracker#carve(MazeStorage, int, int, SplittableRandom)}; memory is one {@code int}
+ * per cell for the explicit stack.
+ */
+public class BacktrackerGenerator implements MazeGenerator {
+
+  @Override
+  public String getName() {
+    return "backtracker";
+  }
+
+  @Override
+  public int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand) {
+    return RecursiveBacktracker.carve(maze, startRow, startCol, rand);
+  }
+}
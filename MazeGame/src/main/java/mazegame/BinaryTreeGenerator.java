@@ -0,0 +1,37 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+
+/**
+ * Binary-tree algorithm. Each cell independently opens its north or west wall, chosen at random, so
+ * there is no bookkeeping at all and a single pass over the grid suffices. It is the fastest option
+ * but heavily biased: the top row and left column are always straight corridors.
+ */
+public class BinaryTreeGenerator implements MazeGenerator {
+
+  @Override
+  public String getName() {
+    return "binary-tree";
+  }
+
+  @Override
+  public int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand) {
+    int cellsPerRow = maze.getCellsPerRow();
+    int opened = 0;
+    for (int cellRow = 0; cellRow < cellsPerRow; cellRow++) {
+      for (int cellCol = 0; cellCol < cellsPerRow; cellCol++) {
+        int cell = cellRow * cellsPerRow + cellCol;
+        maze.openCell(cell);
+        opened++;
+        if (cellRow > 0 && (cellCol == 0 || rand.nextBoolean())) {
+          maze.openBetween(cell, cell - cellsPerRow);
+          opened++;
+        } else if (cellCol > 0) {
+          maze.openBetween(cell, cell - 1);
+          opened++;
+        }
+      }
+    }
+    return opened;
+  }
+}
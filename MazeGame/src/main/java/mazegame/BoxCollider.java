@@ -0,0 +1,122 @@
+package mazegame;
+
+/**
+ * Moves an axis-aligned box through a tile grid one axis at a time. A sweep visits every tile
+ * column (or row) between the box's leading edge and its target in order and stops flush against
+ * the first blocked one, so any speed is safe: a step longer than a tile can never skip over a
+ * wall. Each tile the box newly overlaps is reported once as it is entered, which is where {@link
+ * TriggerTable triggers} fire. Sweeps allocate nothing.
+ *
+ * <p>Coordinates are maze-space pixels with tile {@code (row, col)} covering {@code [col * tileWH,
+ * (col + 1) * tileWH)}, as in {@link Camera}.
+ */
+public final class BoxCollider {
+
+  /** The grid a box is swept through. */
+  public interface Tiles {
+
+    /** Returns true if the box may not overlap the tile; anything outside the maze is blocked. */
+    boolean isBlocked(int row, int col);
+
+    /** Called for each tile the box starts to overlap during a sweep. */
+    void enter(int row, int col);
+  }
+
+  private BoxCollider() {}
+
+  /**
+   * Sweeps a box horizontally.
+   *
+   * @param tiles the grid
+   * @param tileWH tile width and height in pixels
+   * @param left x-coordinate of the box's left edge
+   * @param top y-coordinate of the box's top edge
+   * @param width box width in pixels
+   * @param height box height in pixels
+   * @param dx requested movement, positive to the east
+   * @return the movement actually possible, between 0 and {@code dx}
+   */
+  public static int sweepX(
+      Tiles tiles, int tileWH, int left, int top, int width, int height, int dx) {
+    return sweep(tiles, tileWH, left, width, top, height, dx, true);
+  }
+
+  /**
+   * Sweeps a box vertically.
+   *
+   * @param tiles the grid
+   * @param tileWH tile width and height in pixels
+   * @param left x-coordinate of the box's left edge
+   * @param top y-coordinate of the box's top edge
+   * @param width box width in pixels
+   * @param height box height in pixels
+   * @param dy requested movement, positive to the south
+   * @return the movement actually possible, between 0 and {@code dy}
+   */
+  public static int sweepY(
+      Tiles tiles, int tileWH, int left, int top, int width, int height, int dy) {
+    return sweep(tiles, tileWH, top, height, left, width, dy, false);
+  }
+
+  /**
+   * Sweeps along one axis. {@code start}/{@code length} describe the box on the moving axis and
+   * {@code crossStart}/{@code crossLength} on the other; a "line" is a tile column when moving
+   * horizontally and a tile row when moving vertically.
+   */
+  private static int sweep(
+      Tiles tiles,
+      int tileWH,
+      int start,
+      int length,
+      int crossStart,
+      int crossLength,
+      int delta,
+      boolean horizontal) {
+    if (delta == 0) {
+      return 0;
+    }
+    int crossFirst = Math.floorDiv(crossStart, tileWH);
+    int crossLast = Math.floorDiv(crossStart + crossLength - 1, tileWH);
+    if (delta > 0) {
+      int edge = start + length - 1; // last pixel inside the box
+      int end = Math.floorDiv(edge + delta, tileWH);
+      for (int line = Math.floorDiv(edge, tileWH) + 1; line <= end; line++) {
+        if (isBlocked(tiles, line, crossFirst, crossLast, horizontal)) {
+          return line * tileWH - 1 - edge;
+        }
+        enter(tiles, line, crossFirst, crossLast, horizontal);
+      }
+    } else {
+      int edge = start;
+      int end = Math.floorDiv(edge + delta, tileWH);
+      for (int line = Math.floorDiv(edge, tileWH) - 1; line >= end; line--) {
+        if (isBlocked(tiles, line, crossFirst, crossLast, horizontal)) {
+          return (line + 1) * tileWH - edge;
+        }
+        enter(tiles, line, crossFirst, crossLast, horizontal);
+      }
+    }
+    return delta;
+  }
+
+  private static boolean isBlocked(
+      Tiles tiles, int line, int crossFirst, int crossLast, boolean horizontal) {
+    for (int cross = crossFirst; cross <= crossLast; cross++) {
+      if (horizontal ? tiles.isBlocked(cross, line) : tiles.isBlocked(line, cross)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void enter(
+      Tiles tiles, int line, int crossFirst, int crossLast, boolean horizontal) {
+    for (int cross = crossFirst; cross <= crossLast; cross++) {
+      if (horizontal) {
+        tiles.enter(cross, line);
+      } else {
+        tiles.enter(line, cross);
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package mazegame;
+
+/**
+ * Viewport over the maze in world pixels, where tile {@code (row, col)} covers {@code [col *
+ * tileWH, (col + 1) * tileWH)} horizontally and likewise vertically. Tiles never store screen
+ * positions; scrolling only moves the camera, so a movement step costs O(1) whatever the maze size,
+ * and drawing visits just the tile range returned by the {@code first/lastVisible} methods.
+ */
+public class Camera {
+
+  private final int viewWidth;
+  private final int viewHeight;
+  private int x;
+  private int y;
+
+  /**
+   * Creates a camera at the world origin.
+   *
+   * @param viewWidth viewport width in pixels
+   * @param viewHeight viewport height in pixels
+   */
+  public Camera(int viewWidth, int viewHeight) {
+    this.viewWidth = viewWidth;
+    this.viewHeight = viewHeight;
+  }
+
+  /** Returns the world x-coordinate at the left edge of the view. */
+  public int getX() {
+    return x;
+  }
+
+  /** Returns the world y-coordinate at the top edge of the view. */
+  public int getY() {
+    return y;
+  }
+
+  public int getViewWidth() {
+    return viewWidth;
+  }
+
+  public int getViewHeight() {
+    return viewHeight;
+  }
+
+  /**
+   * Places a world point at the centre of the view.
+   *
+   * @param worldX world x-coordinate
+   * @param worldY world y-coordinate
+   */
+  public void centerOn(int worldX, int worldY) {
+    x = worldX - viewWidth / 2;
+    y = worldY - viewHeight / 2;
+  }
+
+  /**
+   * Moves the view by a pixel offset.
+   *
+   * @param dx pixels to move right
+   * @param dy pixels to move down
+   */
+  public void move(int dx, int dy) {
+    x += dx;
+    y += dy;
+  }
+
+  /** Converts a world x-coordinate to a screen x-coordinate. */
+  public int toScreenX(int worldX) {
+    return worldX - x;
+  }
+
+  /** Converts a world y-coordinate to a screen y-coordinate. */
+  public int toScreenY(int worldY) {
+    return worldY - y;
+  }
+
+  /** Returns the first tile column at least partly on screen (may be negative). */
+  public int firstVisibleCol(int tileWH) {
+    return Math.floorDiv(x, tileWH);
+  }
+
+  /** Returns the last tile column at least partly on screen. */
+  public int lastVisibleCol(int tileWH) {
+    return Math.floorDiv(x + viewWidth - 1, tileWH);
+  }
+
+  /** Returns the first tile row at least partly on screen (may be negative). */
+  public int firstVisibleRow(int tileWH) {
+    return Math.floorDiv(y, tileWH);
+  }
+
+  /** Returns the last tile row at least partly on screen. */
+  public int lastVisibleRow(int tileWH) {
+    return Math.floorDiv(y + viewHeight - 1, tileWH);
+  }
+
+  /** Returns the tile row under the centre of the view. */
+  public int centerRow(int tileWH) {
+    return Math.floorDiv(y + viewHeight / 2, tileWH);
+  }
+
+  /** Returns the tile column under the centre of the view. */
+  public int centerCol(int tileWH) {
+    return Math.floorDiv(x + viewWidth / 2, tileWH);
+  }
+}
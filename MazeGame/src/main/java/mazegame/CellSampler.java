@@ -0,0 +1,49 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws distinct cells from a candidate array without replacement using a lazy partial Fisher-Yates
+ * shuffle: each draw swaps a random not-yet-drawn entry to the front of the remaining range. Every
+ * candidate is drawn at most once, so picking {@code k} items costs {@code O(k)} after the array is
+ * filled, with no retries and no allocation per draw. The candidate array is shuffled in place.
+ */
+public final class CellSampler {
+
+  private final int[] candidates;
+  private final int count;
+  private int drawn;
+
+  /**
+   * Creates a sampler over the first {@code count} entries of {@code candidates}.
+   *
+   * @param candidates packed cell indices; reordered in place while drawing
+   * @param count number of valid entries
+   */
+  public CellSampler(int[] candidates, int count) {
+    this.candidates = candidates;
+    this.count = count;
+  }
+
+  /** Returns how many candidates have not been drawn yet. */
+  public int remaining() {
+    return count - drawn;
+  }
+
+  /**
+   * Draws the next random candidate.
+   *
+   * @param rand source of randomness
+   * @return a packed cell index, or {@code -1} if every candidate has been drawn
+   */
+  public int draw(SplittableRandom rand) {
+    if (drawn == count) {
+      return -1;
+    }
+    int j = drawn + rand.nextInt(count - drawn);
+    int picked = candidates[j];
+    candidates[j] = candidates[drawn];
+    candidates[drawn++] = picked;
+    return picked;
+  }
+}
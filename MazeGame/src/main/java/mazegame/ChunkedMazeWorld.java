@@ -0,0 +1,314 @@
+package mazegame;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * An endless maze made of fixed-size chunks. World tile coordinates are unbounded in every
+ * direction; the chunk holding a tile is carved on first access from the world seed and the chunk
+ * coordinate alone, so walking away and coming back rebuilds exactly the same maze.
+ *
+ * <p>Each chunk covers {@code 2 * chunkCells} tiles per side and owns its top wall row and left
+ * wall column. Inside, it is a perfect maze carved by a {@link MazeGenerator}; one door is opened
+ * in its top row and one in its left column at positions hashed from the seed and chunk coordinate.
+ * Since every chunk links to its north and west neighbours, the whole world is connected. A chunk
+ * is stored as a {@link MazeGrid} one tile larger than it covers, holding its neighbours' doors on
+ * the bottom and right edges, so wall masks and grass are computed once per chunk like a level.
+ *
+ * <p>Resident chunks are kept in access order and the least recently used one is evicted once the
+ * memory budget is exceeded; at least a 3×3 block around the player always fits. Lookups are
+ * single-threaded, from the game loop.
+ */
+public class ChunkedMazeWorld {
+
+  /** Default chunk size in cells per side. */
+  public static final int DEFAULT_CHUNK_CELLS = 64;
+
+  /** Default memory budget for resident chunks, in bytes. */
+  public static final long DEFAULT_MEMORY_BUDGET = 16L << 20;
+
+  /** Chunks around the player that must fit in the budget (a 3×3 block). */
+  public static final int MIN_RESIDENT_CHUNKS = 9;
+
+  private final long worldSeed;
+  private final int chunkCells;
+  private final int chunkTiles;
+  private final MazeGenerator generator;
+  private final long chunkBytes;
+  private final int maxChunks;
+  private final LinkedHashMap<Long, MazeGrid> chunks;
+
+  // One-entry cache so runs of lookups in the same chunk skip the map
+  private long lastKey;
+  private MazeGrid lastChunk;
+
+  private long chunksGenerated;
+  private long chunksEvicted;
+
+  /**
+   * Creates a world with the default chunk size and memory budget.
+   *
+   * @param worldSeed seed every chunk is derived from
+   */
+  public ChunkedMazeWorld(long worldSeed) {
+    this(
+        worldSeed,
+        DEFAULT_CHUNK_CELLS,
+        DEFAULT_MEMORY_BUDGET,
+        MazeGenerators.byName(MazeGenerators.DEFAULT));
+  }
+
+  /**
+   * Creates a world.
+   *
+   * @param worldSeed seed every chunk is derived from
+   * @param chunkCells chunk size in cells per side (at least 2)
+   * @param memoryBudget approximate bytes of chunk storage to keep resident
+   * @param generator the carving algorithm used inside each chunk
+   */
+  public ChunkedMazeWorld(
+      long worldSeed, int chunkCells, long memoryBudget, MazeGenerator generator) {
+    if (chunkCells < 2) {
+      throw new IllegalArgumentException("Chunks need at least 2 cells per side: " + chunkCells);
+    }
+    this.worldSeed = worldSeed;
+    this.chunkCells = chunkCells;
+    this.chunkTiles = chunkCells * 2;
+    this.generator = generator;
+    this.chunkBytes = estimateBytes(chunkTiles + 1);
+    this.maxChunks = (int) Math.max(MIN_RESIDENT_CHUNKS, memoryBudget / chunkBytes);
+    this.chunks =
+        new LinkedHashMap<Long, MazeGrid>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, MazeGrid> eldest) {
+            if (size() <= maxChunks) {
+              return false;
+            }
+            chunksEvicted++;
+            if (eldest.getValue() == lastChunk) {
+              lastChunk = null;
+            }
+            return true;
+          }
+        };
+  }
+
+  /** Returns the seed every chunk is derived from. */
+  public long getWorldSeed() {
+    return worldSeed;
+  }
+
+  /** Returns the number of tiles per chunk side. */
+  public int getChunkTiles() {
+    return chunkTiles;
+  }
+
+  /** Returns the most chunks kept resident under the memory budget. */
+  public int getMaxResidentChunks() {
+    return maxChunks;
+  }
+
+  /** Returns the number of chunks currently in memory. */
+  public int getResidentChunks() {
+    return chunks.size();
+  }
+
+  /** Returns the total number of chunks carved so far, including regenerated ones. */
+  public long getChunksGenerated() {
+    return chunksGenerated;
+  }
+
+  /** Returns the number of chunks evicted so far. */
+  public long getChunksEvicted() {
+    return chunksEvicted;
+  }
+
+  /** Returns the approximate resident size of one chunk in bytes. */
+  public long getChunkBytes() {
+    return chunkBytes;
+  }
+
+  // ---------------------------------------------------------------------------
+  // Tile queries (world tile coordinates, any sign)
+  // ---------------------------------------------------------------------------
+
+  /** Returns true if the world tile is open. */
+  public boolean isPassage(int row, int col) {
+    return chunkFor(row, col).isPassage(localRow(row), localCol(col));
+  }
+
+  /** Returns true if the world tile is solid wall. */
+  public boolean isWall(int row, int col) {
+    return !isPassage(row, col);
+  }
+
+  /**
+   * Returns the wall's NESW passage-neighbour mask, as {@link MazeGrid#getWallMask(int, int)}.
+   * Tiles on a chunk's top row or left column border another chunk and are resolved through the
+   * world; all others come from the chunk's precomputed masks.
+   */
+  public int getWallMask(int row, int col) {
+    int lr = localRow(row);
+    int lc = localCol(col);
+    if (lr > 0 && lc > 0) {
+      return chunkFor(row, col).getWallMask(lr, lc);
+    }
+    int mask = 0;
+    if (isPassage(row - 1, col)) {
+      mask |= MazeGrid.NORTH;
+    }
+    if (isPassage(row, col + 1)) {
+      mask |= MazeGrid.EAST;
+    }
+    if (isPassage(row + 1, col)) {
+      mask |= MazeGrid.SOUTH;
+    }
+    if (isPassage(row, col - 1)) {
+      mask |= MazeGrid.WEST;
+    }
+    return mask;
+  }
+
+  /** Returns the grass background variant (0-3). */
+  public int getGrassVariant(int row, int col) {
+    return chunkFor(row, col).getGrassVariant(localRow(row), localCol(col));
+  }
+
+  /**
+   * Creates a {@link Tile} view of a world tile, positioned at its untranslated pixel coordinates
+   * like {@link Tilemap#getTile(MazeGrid, int, int)}.
+   *
+   * @param row the world tile row
+   * @param col the world tile column
+   * @param tileWH pixel width/height of each tile
+   * @return a {@link TilePassage} or {@link TileWall}
+   */
+  public Tile getTile(int row, int col, int tileWH) {
+    int x = col * tileWH;
+    int y = row * tileWH;
+    int grass = getGrassVariant(row, col);
+    if (isPassage(row, col)) {
+      TilePassage passage = new TilePassage(tileWH, x, y, grass);
+      passage.setRowNo(row);
+      passage.setColNo(col);
+      return passage;
+    }
+    TileWall wall = new TileWall(tileWH, x, y, grass);
+    wall.setNeighbourMask(getWallMask(row, col));
+    return wall;
+  }
+
+  /**
+   * Makes sure the chunk holding a tile and its eight neighbours are resident, so the player never
+   * walks into a chunk that has to be carved mid-frame.
+   *
+   * @param row the world tile row the player is on
+   * @param col the world tile column the player is on
+   */
+  public void prefetchAround(int row, int col) {
+    int chunkRow = Math.floorDiv(row, chunkTiles);
+    int chunkCol = Math.floorDiv(col, chunkTiles);
+    for (int dr = -1; dr <= 1; dr++) {
+      for (int dc = -1; dc <= 1; dc++) {
+        chunk(chunkRow + dr, chunkCol + dc);
+      }
+    }
+    // Leave the player's own chunk most recently used
+    chunk(chunkRow, chunkCol);
+  }
+
+  // ---------------------------------------------------------------------------
+  // Chunks
+  // ---------------------------------------------------------------------------
+
+  /**
+   * Returns a chunk's grid, carving it if it is not resident. Chunk-local tile {@code (r, c)} is
+   * world tile {@code (chunkRow * getChunkTiles() + r, chunkCol * getChunkTiles() + c)}.
+   *
+   * @param chunkRow chunk row, any sign
+   * @param chunkCol chunk column, any sign
+   * @return the chunk grid, {@link #getChunkTiles()} + 1 tiles per side
+   */
+  public MazeGrid chunk(int chunkRow, int chunkCol) {
+    long key = chunkKey(chunkRow, chunkCol);
+    if (lastChunk != null && key == lastKey) {
+      return lastChunk;
+    }
+    MazeGrid chunk = chunks.get(key);
+    if (chunk == null) {
+      chunk = generateChunk(chunkRow, chunkCol);
+      chunks.put(key, chunk);
+    }
+    lastKey = key;
+    lastChunk = chunk;
+    return chunk;
+  }
+
+  private MazeGrid chunkFor(int row, int col) {
+    return chunk(Math.floorDiv(row, chunkTiles), Math.floorDiv(col, chunkTiles));
+  }
+
+  private int localRow(int row) {
+    return Math.floorMod(row, chunkTiles);
+  }
+
+  private int localCol(int col) {
+    return Math.floorMod(col, chunkTiles);
+  }
+
+  private MazeGrid generateChunk(int chunkRow, int chunkCol) {
+    MazeGrid grid = new MazeGrid(chunkTiles + 1);
+    long chunkSeed = mix(worldSeed ^ chunkKey(chunkRow, chunkCol) * 0x9E3779B97F4A7C15L);
+    SplittableRandom rand = new SplittableRandom(chunkSeed);
+    int startRow = rand.nextInt(chunkCells) * 2 + 1;
+    int startCol = rand.nextInt(chunkCells) * 2 + 1;
+    generator.carve(grid, startRow, startCol, rand);
+
+    // Own doors on the top and left edges; the neighbours' doors on the bottom and right
+    grid.setPassage(0, doorCell(chunkRow, chunkCol, false) * 2 + 1);
+    grid.setPassage(doorCell(chunkRow, chunkCol, true) * 2 + 1, 0);
+    grid.setPassage(chunkTiles, doorCell(chunkRow + 1, chunkCol, false) * 2 + 1);
+    grid.setPassage(doorCell(chunkRow, chunkCol + 1, true) * 2 + 1, chunkTiles);
+
+    grid.computeWallMasks();
+    int baseRow = chunkRow * chunkTiles;
+    int baseCol = chunkCol * chunkTiles;
+    for (int r = 0; r <= chunkTiles; r++) {
+      for (int c = 0; c <= chunkTiles; c++) {
+        grid.setGrassVariant(r, c, grassVariant(baseRow + r, baseCol + c));
+      }
+    }
+    chunksGenerated++;
+    return grid;
+  }
+
+  /** Returns the cell index along a chunk's top (or left) edge where its door is. */
+  private int doorCell(int chunkRow, int chunkCol, boolean west) {
+    long h = mix(worldSeed + chunkKey(chunkRow, chunkCol) * 0xBF58476D1CE4E5B9L + (west ? 1 : 2));
+    return (int) ((h >>> 1) % chunkCells);
+  }
+
+  private int grassVariant(int row, int col) {
+    return (int) (mix(worldSeed + chunkKey(row, col) * 0x9E3779B97F4A7C15L) >>> 62);
+  }
+
+  private static long chunkKey(int row, int col) {
+    return ((long) row << 32) | (col & 0xFFFFFFFFL);
+  }
+
+  /** SplitMix64 finaliser. */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Approximate heap cost of a {@link MazeGrid}: three bitsets plus one attribute byte per tile.
+   */
+  private static long estimateBytes(int size) {
+    long words = (long) ((size + 63) >>> 6) * size;
+    return words * 8 * 3 + (long) size * size;
+  }
+}
@@ -0,0 +1,77 @@
+package mazegame;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Creates images in the display's native pixel format, so drawing them to the screen or to another
+ * such image is a straight copy instead of a per-pixel format conversion. Without a display (tests,
+ * headless runs) translucent images are {@code TYPE_INT_ARGB_PRE} and opaque ones {@code
+ * TYPE_INT_RGB}, the formats Java2D blits fastest in software.
+ */
+public final class CompatibleImages {
+
+  private static GraphicsConfiguration configuration;
+  private static boolean configurationResolved;
+
+  private CompatibleImages() {}
+
+  /**
+   * Creates a blank image.
+   *
+   * @param width width in pixels
+   * @param height height in pixels
+   * @param opaque true if every pixel will be painted, so no alpha channel is needed
+   * @return a transparent (or black, if opaque) image
+   */
+  public static BufferedImage create(int width, int height, boolean opaque) {
+    GraphicsConfiguration gc = configuration();
+    if (gc != null) {
+      return gc.createCompatibleImage(
+          width, height, opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT);
+    }
+    return new BufferedImage(
+        width, height, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+  }
+
+  /**
+   * Copies an image into the display format, scaled to a new size with nearest-neighbour sampling
+   * so pixel art stays crisp.
+   *
+   * @param source the image to convert
+   * @param width target width in pixels
+   * @param height target height in pixels
+   * @return a new translucent compatible image
+   */
+  public static BufferedImage scaled(BufferedImage source, int width, int height) {
+    BufferedImage image = create(width, height, false);
+    Graphics2D g = image.createGraphics();
+    g.setRenderingHint(
+        RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    g.drawImage(source, 0, 0, width, height, null);
+    g.dispose();
+    return image;
+  }
+
+  /** Returns the default screen's configuration, or {@code null} without a usable display. */
+  private static synchronized GraphicsConfiguration configuration() {
+    if (!configurationResolved) {
+      configurationResolved = true;
+      if (!GraphicsEnvironment.isHeadless()) {
+        try {
+          configuration =
+              GraphicsEnvironment.getLocalGraphicsEnvironment()
+                  .getDefaultScreenDevice()
+                  .getDefaultConfiguration();
+        } catch (RuntimeException e) {
+          // No screen after all (e.g. some browser runtimes); fall back to the software formats
+        }
+      }
+    }
+    return configuration;
+  }
+}
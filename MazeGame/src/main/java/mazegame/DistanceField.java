@@ -0,0 +1,90 @@
+package mazegame;
+
+import java.util.Arrays;
+
+/**
+ * Path distance (in tile steps through passages) from each tile to the nearest of a growing set of
+ * source tiles, capped at a limit. Adding a source runs a breadth-first pass that only visits tiles
+ * it brings strictly closer and stops at the cap, so spacing items {@code d} apart costs roughly
+ * the area within {@code d} steps of each item rather than a full-grid pass per item. Used to keep
+ * keys away from the start and from each other.
+ */
+public final class DistanceField {
+
+  private final MazeGrid grid;
+  private final int size;
+  private final int limit;
+  private final int[] distance;
+  private final int[] queue;
+
+  /**
+   * Creates a field with no sources; every tile starts at {@code limit}.
+   *
+   * @param grid the carved maze
+   * @param limit distances at or beyond this are not tracked
+   */
+  public DistanceField(MazeGrid grid, int limit) {
+    this.grid = grid;
+    this.size = grid.getRowColAmount();
+    this.limit = limit;
+    this.distance = new int[size * size];
+    this.queue = new int[size * size];
+    Arrays.fill(distance, limit);
+  }
+
+  /**
+   * Adds a source tile and lowers the distance of every passage within {@code limit} steps of it.
+   *
+   * @param row source row
+   * @param col source column
+   */
+  public void addSource(int row, int col) {
+    int start = row * size + col;
+    if (distance[start] == 0) {
+      return;
+    }
+    distance[start] = 0;
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = start;
+    while (head < tail) {
+      int tile = queue[head++];
+      int next = distance[tile] + 1;
+      if (next >= limit) {
+        continue;
+      }
+      int r = tile / size;
+      int c = tile - r * size;
+      if (r > 0) {
+        tail = relax(tile - size, r - 1, c, next, tail);
+      }
+      if (c < size - 1) {
+        tail = relax(tile + 1, r, c + 1, next, tail);
+      }
+      if (r < size - 1) {
+        tail = relax(tile + size, r + 1, c, next, tail);
+      }
+      if (c > 0) {
+        tail = relax(tile - 1, r, c - 1, next, tail);
+      }
+    }
+  }
+
+  private int relax(int tile, int row, int col, int next, int tail) {
+    if (next < distance[tile] && grid.isPassage(row, col)) {
+      distance[tile] = next;
+      queue[tail++] = tile;
+    }
+    return tail;
+  }
+
+  /** Returns the distance to the nearest source, or the limit if none is closer. */
+  public int get(int row, int col) {
+    return distance[row * size + col];
+  }
+
+  /** Returns true if no source lies within fewer than {@code limit} steps. */
+  public boolean isClear(int row, int col) {
+    return distance[row * size + col] >= limit;
+  }
+}
@@ -0,0 +1,23 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+
+/**
+ * Eller's algorithm. Works one row of cells at a time, keeping only per-row set membership, so
+ * extra memory is a handful of arrays the width of one row — the cheapest option for very large
+ * grids. Runs {@link StreamingEllerGenerator} with the grid itself subscribed as the row consumer.
+ */
+public class EllerGenerator implements MazeGenerator {
+
+  @Override
+  public String getName() {
+    return "eller";
+  }
+
+  @Override
+  public int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand) {
+    int size = maze.getRowColAmount();
+    return (int)
+        new StreamingEllerGenerator(size, size, rand).subscribe(maze::setPassageRow).generate();
+  }
+}
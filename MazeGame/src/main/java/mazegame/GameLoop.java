@@ -6,16 +6,35 @@ import javax.swing.Timer;
  * Manages the frame-rate–capped update/render cycle using a {@link javax.swing.Timer}, which fires
  * on the EDT. This avoids cross-thread rendering issues and is fully compatible with CheerpJ's
  * browser runtime (Swing Timer maps to JavaScript {@code setInterval}).
+ *
+ * <p>Updates are delta-timed: each one is told how much play time has passed since the last, so
+ * movement speed does not depend on the render or simulation rate, and a late frame is absorbed by
+ * one longer step instead of a burst of catch-up updates. The render rate sets the timer period;
+ * the simulation rate caps how often {@link Callbacks#onUpdate(long)} runs, at most once per frame.
  */
 public class GameLoop {
 
-  private static final int TARGET_FPS = 30;
-  private static final int FRAME_DELAY_MS = 1000 / TARGET_FPS;
-  private static final double TICK_CONVERSION = 100_000_000.0 / TARGET_FPS;
+  /** Default frames rendered per second. */
+  public static final int DEFAULT_RENDER_RATE = 60;
+
+  /** Default updates per second. */
+  public static final int DEFAULT_SIMULATION_RATE = 60;
+
+  /** Sprite animation frames per second, independent of the render rate. */
+  private static final long ANIMATION_NANOS = 1_000_000_000L / 30;
+
+  /** Longest step handed to a single update; longer stalls (e.g. a GC pause) are dropped. */
+  private static final long MAX_STEP_NANOS = 250_000_000L;
 
   /** Callback interface for the game to implement update/render hooks. */
   public interface Callbacks {
-    void onUpdate();
+
+    /**
+     * Advances the game by the play time since the previous update.
+     *
+     * @param elapsedNanos play time to simulate, at most a quarter of a second
+     */
+    void onUpdate(long elapsedNanos);
 
     void onRender();
 
@@ -30,14 +49,36 @@ public class GameLoop {
   }
 
   private final Callbacks callbacks;
+  private final int frameDelayMs;
+  private final long frameNanos;
+  private final long updateNanos;
   private Timer timer;
   private Runnable onComplete;
   private long lastTime;
-  private double changeTick;
-  private double changeAnim;
+  private long sinceUpdate;
+  private long sinceAnim;
 
+  /** Creates a loop at the default simulation and render rates. */
   public GameLoop(Callbacks callbacks) {
+    this(callbacks, DEFAULT_SIMULATION_RATE, DEFAULT_RENDER_RATE);
+  }
+
+  /**
+   * Creates a loop at the given rates.
+   *
+   * @param callbacks the game hooks
+   * @param simulationRate maximum updates per second
+   * @param renderRate frames rendered per second; the timer has millisecond resolution
+   */
+  public GameLoop(Callbacks callbacks, int simulationRate, int renderRate) {
+    if (simulationRate <= 0 || renderRate <= 0) {
+      throw new IllegalArgumentException(
+          "Rates must be positive: " + simulationRate + ", " + renderRate);
+    }
     this.callbacks = callbacks;
+    this.frameDelayMs = Math.max(1, 1000 / renderRate);
+    this.frameNanos = frameDelayMs * 1_000_000L;
+    this.updateNanos = 1_000_000_000L / simulationRate;
   }
 
   /**
@@ -54,9 +95,9 @@ public class GameLoop {
       return;
     }
     lastTime = System.nanoTime();
-    changeTick = 0;
-    changeAnim = 0;
-    timer = new Timer(FRAME_DELAY_MS, e -> tick());
+    sinceUpdate = 0;
+    sinceAnim = 0;
+    timer = new Timer(frameDelayMs, e -> tick());
     timer.setCoalesce(true);
     timer.start();
   }
@@ -95,24 +136,20 @@ public class GameLoop {
     }
 
     long now = System.nanoTime();
-    double elapsed = (now - lastTime) / TICK_CONVERSION;
-    changeTick += elapsed;
-    changeAnim += elapsed;
-
-    // Run enough updates to catch up — prevents movement from slowing when rendering is heavy
-    while (changeTick >= 1) {
-      callbacks.onUpdate();
-      changeTick -= 1;
-      // Cap to prevent spiral-of-death after long pauses / lag spikes
-      if (changeTick > 5) {
-        changeTick = 0;
-        break;
-      }
+    long elapsed = Math.min(now - lastTime, MAX_STEP_NANOS);
+    sinceUpdate += elapsed;
+    sinceAnim += elapsed;
+
+    // One update covering all time since the last; run it this frame if waiting for the next
+    // would overshoot the simulation step by more than this frame falls short of it
+    if (sinceUpdate + frameNanos / 2 >= updateNanos) {
+      callbacks.onUpdate(Math.min(sinceUpdate, MAX_STEP_NANOS));
+      sinceUpdate = 0;
     }
 
-    while (changeAnim >= 10) {
+    if (sinceAnim >= ANIMATION_NANOS) {
       callbacks.onAnimationTick();
-      changeAnim -= 10;
+      sinceAnim %= ANIMATION_NANOS;
     }
 
     callbacks.onRender();
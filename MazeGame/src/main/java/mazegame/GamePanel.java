@@ -1,6 +1,7 @@
 package mazegame;
 
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
@@ -10,16 +11,52 @@ import javax.swing.JPanel;
 /**
  * A JPanel that displays the game's offscreen buffer, scaled to fit with aspect-ratio-preserving
  * letterboxing. Uses Swing's {@code paintComponent} pipeline rather than direct {@code
- * Canvas.getGraphics()}, which ensures compatibility with CheerpJ's rendering bridge.
+ * Canvas.getGraphics()}, which ensures compatibility with CheerpJ's rendering bridge. This is the
+ * browser's {@link GameView}; the desktop uses {@link AcceleratedGameCanvas}.
  */
-public class GamePanel extends JPanel {
+public class GamePanel extends JPanel implements GameView {
 
   private volatile BufferedImage buffer;
 
+  // Frame the game draws into at the logical resolution
+  private BufferedImage offscreenBuffer;
+
   public GamePanel() {
     setOpaque(true);
     setBackground(Color.BLACK);
     setDoubleBuffered(true);
+    setFocusable(true);
+  }
+
+  @Override
+  public Component getComponent() {
+    return this;
+  }
+
+  @Override
+  public Graphics beginFrame(int width, int height) {
+    if (offscreenBuffer == null
+        || offscreenBuffer.getWidth() != width
+        || offscreenBuffer.getHeight() != height) {
+      offscreenBuffer = CompatibleImages.create(width, height, true);
+    }
+    return offscreenBuffer.getGraphics();
+  }
+
+  /**
+   * Pushes the offscreen buffer to the panel and triggers an immediate repaint. Since the game loop
+   * runs on the EDT via {@link javax.swing.Timer}, {@code paintImmediately} can be called directly
+   * for reliable rendering in CheerpJ.
+   */
+  @Override
+  public void showFrame() {
+    if (offscreenBuffer == null) return;
+    setBuffer(offscreenBuffer);
+    int w = getWidth();
+    int h = getHeight();
+    if (w > 0 && h > 0) {
+      paintImmediately(0, 0, w, h);
+    }
   }
 
   /** Sets the offscreen buffer to display. Thread-safe. */
@@ -33,11 +33,25 @@ public class GameSettings {
   /** Number of bones required to unlock the Sasso skin. */
   public static final int SASSO_UNLOCK_BONES = 10;
 
+  private static final int MIN_RATE = 15;
+  private static final int MAX_RATE = 240;
+
+  /**
+   * System property overriding the starting render rate, e.g. {@code -Dmazegame.renderRate=144}.
+   */
+  public static final String RENDER_RATE_PROPERTY = "mazegame.renderRate";
+
+  /** System property overriding the starting simulation rate. */
+  public static final String SIMULATION_RATE_PROPERTY = "mazegame.simulationRate";
+
   private DogSkin activeSkin = DogSkin.WESLEY;
   private boolean soundMuted;
   private boolean musicMuted;
   private float musicVolume = 0.5f;
   private String language = "en";
+  private int renderRate = rateProperty(RENDER_RATE_PROPERTY, GameLoop.DEFAULT_RENDER_RATE);
+  private int simulationRate =
+      rateProperty(SIMULATION_RATE_PROPERTY, GameLoop.DEFAULT_SIMULATION_RATE);
 
   /** Returns the currently selected dog skin. */
   public DogSkin getActiveSkin() {
@@ -102,6 +116,39 @@ public class GameSettings {
     this.language = lang;
   }
 
+  /** Returns the frames rendered per second during play. */
+  public int getRenderRate() {
+    return renderRate;
+  }
+
+  /** Sets the frames rendered per second (clamped to 15 – 240). */
+  public void setRenderRate(int rate) {
+    this.renderRate = clampRate(rate);
+  }
+
+  /** Returns the game updates per second; movement speed does not depend on it. */
+  public int getSimulationRate() {
+    return simulationRate;
+  }
+
+  /** Sets the game updates per second (clamped to 15 – 240). */
+  public void setSimulationRate(int rate) {
+    this.simulationRate = clampRate(rate);
+  }
+
+  private static int clampRate(int rate) {
+    return Math.max(MIN_RATE, Math.min(MAX_RATE, rate));
+  }
+
+  /** Reads a rate from a system property, clamped; missing or malformed values give the default. */
+  private static int rateProperty(String name, int fallback) {
+    try {
+      return clampRate(Integer.getInteger(name, fallback));
+    } catch (SecurityException e) {
+      return fallback;
+    }
+  }
+
   /**
    * Returns the sprite asset-key prefix for the active skin (e.g. "wesley"). Used by {@link
    * Renderer} to look up directional animation frames like {@code <prefix>East0}.
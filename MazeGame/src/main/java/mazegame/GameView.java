@@ -0,0 +1,47 @@
+package mazegame;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.GraphicsEnvironment;
+
+/**
+ * The component that shows game frames. Each frame is drawn at the fixed logical resolution into
+ * the graphics returned by {@link #beginFrame(int, int)}, then {@link #showFrame()} scales it to
+ * the component with aspect-ratio-preserving letterboxing.
+ *
+ * <p>Two implementations exist: {@link AcceleratedGameCanvas} for the desktop, which renders into
+ * video memory and flips a {@link java.awt.image.BufferStrategy}, and {@link GamePanel} for the
+ * CheerpJ browser build, which goes through Swing's paint pipeline. {@link #create()} picks one at
+ * startup.
+ */
+public interface GameView {
+
+  /** Returns the component to add to the frame. */
+  Component getComponent();
+
+  /**
+   * Returns graphics for the next frame, or {@code null} if the view cannot draw yet (e.g. it is
+   * not displayable). The caller disposes them before calling {@link #showFrame()}.
+   *
+   * @param width logical frame width in pixels
+   * @param height logical frame height in pixels
+   * @return frame graphics, or {@code null}
+   */
+  Graphics beginFrame(int width, int height);
+
+  /** Puts the frame drawn since {@link #beginFrame(int, int)} on screen. */
+  void showFrame();
+
+  /**
+   * Creates the view for this platform: the Swing panel in the browser or when the property {@code
+   * mazegame.accelerated} is {@code false}, otherwise the accelerated canvas.
+   */
+  static GameView create() {
+    boolean inBrowser = "true".equals(System.getProperty("cheerpj.browser"));
+    boolean accelerated = !"false".equals(System.getProperty("mazegame.accelerated"));
+    if (inBrowser || !accelerated || GraphicsEnvironment.isHeadless()) {
+      return new GamePanel();
+    }
+    return new AcceleratedGameCanvas();
+  }
+}
@@ -0,0 +1,202 @@
+package mazegame;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless batch generator for building maze corpora offline. Runs the full generation pipeline
+ * (carve, exit, keys, bone) for many seeds across a fixed thread pool, optionally writes each maze
+ * as a {@link MazeCache} file or a PNG, and reports throughput and latency. Nothing here loads AWT
+ * or Swing, so it runs under {@code java.awt.headless=true} on build servers.
+ *
+ * <pre>
+ * ./gradlew generateMazes --args="--count 200 --size 2001 --algorithm eller --format png"
+ * </pre>
+ */
+public class GenerateMazes {
+
+  private static final String USAGE =
+      "Usage: GenerateMazes [--count N] [--size ODD] [--algorithm NAME] [--threads N]"
+          + " [--seed LONG] [--format bin|png|none] [--out DIR]";
+
+  private int count = 100;
+  private int size = 501;
+  private String algorithm = MazeGenerators.DEFAULT;
+  private int threads = Runtime.getRuntime().availableProcessors();
+  private long seed = new SplittableRandom().nextLong();
+  private String format = "none";
+  private File outDir = new File("mazes");
+
+  /**
+   * Command-line entry point.
+   *
+   * @param args see {@link #USAGE}
+   */
+  public static void main(String[] args) {
+    System.setProperty("java.awt.headless", "true");
+    System.exit(run(args, System.out, System.err));
+  }
+
+  /**
+   * Parses the arguments, generates the batch and prints a report.
+   *
+   * @param args command-line arguments
+   * @param out stream for the report
+   * @param err stream for usage errors
+   * @return the process exit code: 0 on success, 1 if generation failed, 2 on bad arguments
+   */
+  public static int run(String[] args, PrintStream out, PrintStream err) {
+    GenerateMazes tool = new GenerateMazes();
+    try {
+      tool.parse(args);
+    } catch (IllegalArgumentException e) {
+      err.println(e.getMessage());
+      err.println(USAGE);
+      return 2;
+    }
+    try {
+      tool.generate(out);
+      return 0;
+    } catch (IOException | ExecutionException e) {
+      err.println("Generation failed: " + e.getMessage());
+      return 1;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return 1;
+    }
+  }
+
+  private void parse(String[] args) {
+    for (int i = 0; i < args.length; i++) {
+      String flag = args[i];
+      if (i + 1 >= args.length) {
+        throw new IllegalArgumentException("Missing value for " + flag);
+      }
+      String value = args[++i];
+      try {
+        switch (flag) {
+          case "--count":
+            count = Integer.parseInt(value);
+            break;
+          case "--size":
+            size = Integer.parseInt(value);
+            break;
+          case "--algorithm":
+            algorithm = value;
+            break;
+          case "--threads":
+            threads = Integer.parseInt(value);
+            break;
+          case "--seed":
+            seed = Long.parseLong(value);
+            break;
+          case "--format":
+            format = value;
+            break;
+          case "--out":
+            outDir = new File(value);
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option " + flag);
+        }
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Not a number for " + flag + ": " + value);
+      }
+    }
+    if (count < 1 || threads < 1) {
+      throw new IllegalArgumentException("--count and --threads must be positive");
+    }
+    if (size < 5 || size % 2 == 0) {
+      throw new IllegalArgumentException("--size must be odd and at least 5");
+    }
+    if (size > MazeGrid.MAX_ROW_COL_AMOUNT) {
+      throw new IllegalArgumentException(
+          "--size must be at most " + MazeGrid.MAX_ROW_COL_AMOUNT + " for an in-memory grid");
+    }
+    if (!format.equals("bin") && !format.equals("png") && !format.equals("none")) {
+      throw new IllegalArgumentException("Unknown format " + format);
+    }
+    MazeGenerators.byName(algorithm); // Fail fast on a bad name
+  }
+
+  private void generate(PrintStream out)
+      throws IOException, InterruptedException, ExecutionException {
+    if (!format.equals("none") && !outDir.isDirectory() && !outDir.mkdirs()) {
+      throw new IOException("Cannot create " + outDir);
+    }
+    MazeGenerator generator = MazeGenerators.byName(algorithm);
+    MazeCache binaryOut = new MazeCache(outDir);
+
+    // Seeds are fixed up front so the corpus does not depend on thread scheduling
+    SplittableRandom seeds = new SplittableRandom(seed);
+    long[] latencies = new long[count];
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    List<Future<?>> jobs = new ArrayList<>(count);
+    long start = System.nanoTime();
+    try {
+      for (int i = 0; i < count; i++) {
+        int index = i;
+        long mazeSeed = seeds.nextLong();
+        jobs.add(
+            pool.submit(
+                () -> {
+                  long t0 = System.nanoTime();
+                  RecursiveBacktracker maze =
+                      new RecursiveBacktracker(1, 0, size, mazeSeed, generator);
+                  maze.generate();
+                  latencies[index] = System.nanoTime() - t0;
+                  write(maze, binaryOut);
+                  return null;
+                }));
+      }
+      for (Future<?> job : jobs) {
+        job.get();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    long elapsed = System.nanoTime() - start;
+
+    Arrays.sort(latencies);
+    double seconds = elapsed / 1e9;
+    out.printf(
+        "%d mazes of %dx%d (%s) on %d threads in %.2f s%n",
+        count, size, size, algorithm, threads, seconds);
+    out.printf("  mazes/sec  %.1f%n", count / seconds);
+    out.printf("  cells/sec  %.3e%n", (double) count * size * size / seconds);
+    out.printf(
+        "  latency    p50 %.2f ms  p99 %.2f ms  max %.2f ms%n",
+        latencies[percentileIndex(count, 0.50)] / 1e6,
+        latencies[percentileIndex(count, 0.99)] / 1e6,
+        latencies[count - 1] / 1e6);
+  }
+
+  private void write(RecursiveBacktracker maze, MazeCache binaryOut) throws IOException {
+    if (format.equals("bin")) {
+      binaryOut.write(maze);
+    } else if (format.equals("png")) {
+      String name = algorithm + "-" + size + "-" + Long.toHexString(maze.getSeed()) + ".png";
+      try (OutputStream file =
+          new BufferedOutputStream(new FileOutputStream(new File(outDir, name)), 1 << 16)) {
+        MazePngWriter.write(maze.getGrid(), file);
+      }
+    }
+  }
+
+  /** Nearest-rank percentile index into a sorted array of {@code n} samples. */
+  static int percentileIndex(int n, double percentile) {
+    return Math.max(0, (int) Math.ceil(percentile * n) - 1);
+  }
+}
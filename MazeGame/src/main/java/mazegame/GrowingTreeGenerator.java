@@ -0,0 +1,84 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+
+/**
+ * Growing-tree algorithm. Keeps a list of active cells; each step picks one, carves to a random
+ * unvisited neighbour and adds it, or retires the cell when it has none. Picking the newest cell
+ * behaves like the backtracker, picking a random one like Prim's; {@code newestChance} blends the
+ * two. Retired cells are removed in constant time by back-filling from the second-newest slot,
+ * which slightly perturbs the order of older entries but never which cell is newest.
+ */
+public class GrowingTreeGenerator implements MazeGenerator {
+
+  private final double newestChance;
+
+  /** Creates a generator that picks the newest cell half of the time. */
+  public GrowingTreeGenerator() {
+    this(0.5);
+  }
+
+  /**
+   * Creates a generator with a custom selection bias.
+   *
+   * @param newestChance probability in {@code [0, 1]} of choosing the newest active cell
+   */
+  public GrowingTreeGenerator(double newestChance) {
+    this.newestChance = newestChance;
+  }
+
+  @Override
+  public String getName() {
+    return "growing-tree";
+  }
+
+  @Override
+  public int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand) {
+    int cellsPerRow = maze.getCellsPerRow();
+    int[] active = new int[cellsPerRow * cellsPerRow];
+    int[] candidates = new int[4];
+    int size = 0;
+
+    int start = (startRow / 2) * cellsPerRow + (startCol / 2);
+    maze.openCell(start);
+    active[size++] = start;
+    int opened = 1;
+
+    while (size > 0) {
+      int index = rand.nextDouble() < newestChance ? size - 1 : rand.nextInt(size);
+      int cell = active[index];
+      int cellRow = cell / cellsPerRow;
+      int cellCol = cell - cellRow * cellsPerRow;
+
+      int count = 0;
+      if (cellRow > 0 && !maze.isCellOpen(cell - cellsPerRow)) {
+        candidates[count++] = cell - cellsPerRow;
+      }
+      if (cellCol < cellsPerRow - 1 && !maze.isCellOpen(cell + 1)) {
+        candidates[count++] = cell + 1;
+      }
+      if (cellRow < cellsPerRow - 1 && !maze.isCellOpen(cell + cellsPerRow)) {
+        candidates[count++] = cell + cellsPerRow;
+      }
+      if (cellCol > 0 && !maze.isCellOpen(cell - 1)) {
+        candidates[count++] = cell - 1;
+      }
+
+      if (count == 0) {
+        // Fill the hole from the second-newest slot so the newest cell stays last
+        size--;
+        if (index < size) {
+          active[index] = active[size - 1];
+          active[size - 1] = active[size];
+        }
+        continue;
+      }
+
+      int next = candidates[count == 1 ? 0 : rand.nextInt(count)];
+      maze.openBetween(cell, next);
+      opened += 2;
+      active[size++] = next;
+    }
+    return opened;
+  }
+}
@@ -0,0 +1,252 @@
+package mazegame;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.GradientPaint;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.text.DecimalFormat;
+
+/**
+ * The in-game heads-up display, kept as cached images. Everything that stays the same for a level
+ * (background, accent line, labels, level number) is painted once into a chrome image; each value
+ * that changes (key count, bone state, elapsed time, key-removal countdown and its bar) has its own
+ * small image that is repainted only when the value as displayed changes, e.g. when the timer
+ * passes the next tenth of a second. A frame then costs a handful of {@code drawImage} calls and no
+ * allocation: fonts, colours and the number format are created once, and strings are only built for
+ * a repaint.
+ *
+ * <p>Used from the game loop only.
+ */
+public class HudLayer {
+
+  /** Height of the HUD strip in pixels. */
+  public static final int HEIGHT = 50;
+
+  private static final int PAD = 20;
+  private static final int LABEL_Y = 19;
+  private static final int VALUE_Y = 39;
+  private static final int FIELD_WIDTH = 100;
+  private static final int TIME_OFFSET = 110;
+  private static final int BONE_ICON_SIZE = 16;
+  private static final int BAR_WIDTH = 80;
+  private static final int BAR_HEIGHT = 3;
+  private static final int BAR_Y = VALUE_Y + 4;
+
+  private static final Font LABEL_FONT = new Font("Dialog", Font.PLAIN, 11);
+  private static final Font VALUE_FONT = new Font("Dialog", Font.BOLD, 16);
+  private static final Color LABEL_COLOR = new Color(160, 145, 130);
+  private static final Color ACCENT_COLOR = new Color(196, 149, 106);
+  private static final Color TIME_COLOR = new Color(220, 216, 210);
+  private static final Color BAR_BACKGROUND = new Color(50, 44, 40);
+  private static final Color[] COUNTDOWN_COLORS = {
+    new Color(255, 80, 80), new Color(255, 220, 80), ACCENT_COLOR
+  };
+
+  private final int width;
+  private final int keysRequired;
+  private final double keyRemovalInterval;
+  private final BufferedImage boneIcon;
+  private final DecimalFormat tenths = new DecimalFormat("0.0");
+
+  private final BufferedImage chrome;
+  private final BufferedImage keysField;
+  private final BufferedImage boneField;
+  private final BufferedImage timeField;
+  private final BufferedImage countdownField;
+  private final int timeX;
+
+  // Values currently painted in each image; -1 forces the first repaint
+  private int chromeLevel = -1;
+  private int shownKeys = -1;
+  private int shownBone = -1;
+  private long shownTime = -1;
+  private long shownCountdown = -1;
+  private int boneX;
+  private long repaints;
+
+  /**
+   * Creates a HUD and paints its chrome.
+   *
+   * @param width screen width in pixels
+   * @param keysRequired keys needed to open the exit
+   * @param keyRemovalInterval seconds between key removals, the countdown's full length
+   * @param boneSprite the bone image, scaled down for the bone indicator
+   */
+  public HudLayer(
+      int width, int keysRequired, double keyRemovalInterval, BufferedImage boneSprite) {
+    this.width = width;
+    this.keysRequired = keysRequired;
+    this.keyRemovalInterval = keyRemovalInterval;
+    this.boneIcon = CompatibleImages.scaled(boneSprite, BONE_ICON_SIZE, BONE_ICON_SIZE);
+    chrome = CompatibleImages.create(width, HEIGHT, false);
+    keysField = CompatibleImages.create(FIELD_WIDTH, HEIGHT, false);
+    boneField = CompatibleImages.create(FIELD_WIDTH, HEIGHT, false);
+    timeField = CompatibleImages.create(FIELD_WIDTH, HEIGHT, false);
+    countdownField = CompatibleImages.create(FIELD_WIDTH, HEIGHT, false);
+
+    Graphics2D g = begin(chrome);
+    FontMetrics labels = g.getFontMetrics(LABEL_FONT);
+    timeX = width - PAD - labels.stringWidth(Messages.get("hud.key_timer_label")) - TIME_OFFSET;
+    g.dispose();
+  }
+
+  /**
+   * Draws the HUD at the top of the screen, first repainting any value that changed since the last
+   * frame.
+   *
+   * @param g screen graphics
+   * @param level current level number
+   * @param keyCount keys collected
+   * @param boneCollected true if this level's bone has been collected
+   * @param timeTaken seconds since the level started
+   * @param timeUntilKeyRemoval seconds until the next key vanishes
+   */
+  public void draw(
+      Graphics g,
+      int level,
+      int keyCount,
+      boolean boneCollected,
+      double timeTaken,
+      double timeUntilKeyRemoval) {
+    if (level != chromeLevel) {
+      paintChrome(level);
+    }
+    if (keyCount != shownKeys) {
+      paintKeys(keyCount);
+    }
+    int bone = boneCollected ? 1 : 0;
+    if (bone != shownBone) {
+      paintBone(boneCollected);
+    }
+    // Keyed by the displayed tenths, so the text is rebuilt at most ten times a second
+    long time = Math.round(timeTaken * 10);
+    if (time != shownTime) {
+      paintTime(time);
+    }
+    double remaining = Math.max(0, timeUntilKeyRemoval);
+    double ratio = timeUntilKeyRemoval / keyRemovalInterval;
+    int colour = ratio < 0.3 ? 0 : ratio < 0.6 ? 1 : 2;
+    int filled = (int) (BAR_WIDTH * Math.max(0, Math.min(1, ratio)));
+    long remainingTenths = Math.round(remaining * 10);
+    long countdown = (remainingTenths * 3 + colour) * (BAR_WIDTH + 1) + filled;
+    if (countdown != shownCountdown) {
+      paintCountdown(remainingTenths, colour, filled, countdown);
+    }
+
+    g.drawImage(chrome, 0, 0, null);
+    g.drawImage(keysField, PAD, 0, null);
+    g.drawImage(boneField, boneX, 0, null);
+    g.drawImage(timeField, timeX, 0, null);
+    g.drawImage(countdownField, width - PAD - FIELD_WIDTH, 0, null);
+  }
+
+  /** Returns how many times the chrome or a field has been repainted. */
+  public long getRepaints() {
+    return repaints;
+  }
+
+  private void paintChrome(int level) {
+    chromeLevel = level;
+    repaints++;
+    Graphics2D g = begin(chrome);
+
+    // Gradient background
+    g.setPaint(
+        new GradientPaint(0, 0, new Color(26, 26, 26, 240), 0, HEIGHT, new Color(34, 30, 28, 240)));
+    g.fillRect(0, 0, width, HEIGHT);
+
+    // Bottom accent line
+    g.setColor(new Color(196, 149, 106, 150));
+    g.fillRect(0, HEIGHT - 2, width, 2);
+
+    g.setFont(LABEL_FONT);
+    g.setColor(LABEL_COLOR);
+    FontMetrics lfm = g.getFontMetrics();
+    g.drawString(Messages.get("hud.keys_label"), PAD, LABEL_Y);
+    String levelLabel = Messages.get("hud.level_label");
+    g.drawString(levelLabel, (width - lfm.stringWidth(levelLabel)) / 2, LABEL_Y);
+    String timerLabel = Messages.get("hud.key_timer_label");
+    g.drawString(timerLabel, width - PAD - lfm.stringWidth(timerLabel), LABEL_Y);
+    g.drawString(Messages.get("hud.time_label"), timeX, LABEL_Y);
+
+    g.setFont(VALUE_FONT);
+    g.setColor(Color.WHITE);
+    String levelValue = String.valueOf(level);
+    g.drawString(levelValue, (width - g.getFontMetrics().stringWidth(levelValue)) / 2, VALUE_Y);
+
+    // Countdown bar track; the filled part belongs to the countdown field
+    g.setColor(BAR_BACKGROUND);
+    g.fillRect(width - PAD - BAR_WIDTH, BAR_Y, BAR_WIDTH, BAR_HEIGHT);
+    g.dispose();
+  }
+
+  private void paintKeys(int keyCount) {
+    shownKeys = keyCount;
+    repaints++;
+    Graphics2D g = begin(keysField);
+    g.setFont(VALUE_FONT);
+    g.setColor(ACCENT_COLOR);
+    String value = Messages.fmt("hud.keys_value", keyCount, keysRequired);
+    g.drawString(value, 0, VALUE_Y);
+    // The bone indicator follows the key count
+    boneX = PAD + g.getFontMetrics().stringWidth(value) + 20;
+    g.dispose();
+  }
+
+  private void paintBone(boolean collected) {
+    shownBone = collected ? 1 : 0;
+    repaints++;
+    Graphics2D g = begin(boneField);
+    g.setFont(LABEL_FONT);
+    g.setColor(LABEL_COLOR);
+    g.drawString(Messages.get("hud.bone_label"), 0, LABEL_Y);
+    if (!collected) {
+      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.35f));
+    }
+    g.drawImage(boneIcon, 0, LABEL_Y + 4, null);
+    g.setComposite(AlphaComposite.SrcOver);
+    g.setFont(VALUE_FONT);
+    g.setColor(collected ? UiTheme.BONE_COLOR : LABEL_COLOR);
+    g.drawString(collected ? "\u2713" : "\u2014", BONE_ICON_SIZE + 3, VALUE_Y);
+    g.dispose();
+  }
+
+  private void paintTime(long time) {
+    shownTime = time;
+    repaints++;
+    Graphics2D g = begin(timeField);
+    g.setFont(VALUE_FONT);
+    g.setColor(TIME_COLOR);
+    g.drawString(tenths.format(time / 10.0) + "s", 0, VALUE_Y);
+    g.dispose();
+  }
+
+  private void paintCountdown(long remainingTenths, int colour, int filled, long countdown) {
+    shownCountdown = countdown;
+    repaints++;
+    Graphics2D g = begin(countdownField);
+    g.setFont(VALUE_FONT);
+    g.setColor(COUNTDOWN_COLORS[colour]);
+    String value = tenths.format(remainingTenths / 10.0) + "s";
+    g.drawString(value, FIELD_WIDTH - g.getFontMetrics().stringWidth(value), VALUE_Y);
+    g.fillRect(FIELD_WIDTH - BAR_WIDTH, BAR_Y, filled, BAR_HEIGHT);
+    g.dispose();
+  }
+
+  /** Clears an image and returns antialiased graphics for it. */
+  private static Graphics2D begin(BufferedImage image) {
+    Graphics2D g = image.createGraphics();
+    g.setComposite(AlphaComposite.Clear);
+    g.fillRect(0, 0, image.getWidth(), image.getHeight());
+    g.setComposite(AlphaComposite.SrcOver);
+    g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    g.setRenderingHint(
+        RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    return g;
+  }
+}
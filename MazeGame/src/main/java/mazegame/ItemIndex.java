@@ -0,0 +1,126 @@
+package mazegame;
+
+import java.util.Arrays;
+
+/**
+ * Pickups on a level, indexed by packed cell ({@code row * rowColAmount + col}). Each item type has
+ * a per-cell bitmap for O(1) "is there an item here" and an {@code int[]} of cells in placement
+ * order, so the most recently placed item still on the map (the next key to vanish) is found in
+ * amortised O(1): removed entries are only skipped once, when they reach the end. Nothing is boxed,
+ * so levels can hold hundreds of keys.
+ *
+ * <p>Used from the game loop and the key-removal timer, which both fire on the event dispatch
+ * thread, so no synchronisation is needed.
+ */
+public class ItemIndex {
+
+  /** Item type for keys. */
+  public static final int KEY = 0;
+
+  /** Item type for the bone collectible. */
+  public static final int BONE = 1;
+
+  /** Number of item types. */
+  public static final int TYPES = 2;
+
+  private final long[][] present = new long[TYPES][];
+  private final int[][] order = new int[TYPES][];
+  private final int[] placed = new int[TYPES];
+  private final int[] remaining = new int[TYPES];
+
+  /**
+   * Creates an empty index for a square grid.
+   *
+   * @param rowColAmount number of rows and columns
+   */
+  public ItemIndex(int rowColAmount) {
+    int words = (int) (((long) rowColAmount * rowColAmount + 63) >>> 6);
+    for (int type = 0; type < TYPES; type++) {
+      present[type] = new long[words];
+      order[type] = new int[8];
+    }
+  }
+
+  /**
+   * Places an item. Placing one where the same type already is does nothing.
+   *
+   * @param type the item type, e.g. {@link #KEY}
+   * @param cell packed cell index
+   */
+  public void add(int type, int cell) {
+    if (has(type, cell)) {
+      return;
+    }
+    present[type][cell >>> 6] |= 1L << cell;
+    if (placed[type] == order[type].length) {
+      order[type] = Arrays.copyOf(order[type], placed[type] * 2);
+    }
+    order[type][placed[type]++] = cell;
+    remaining[type]++;
+  }
+
+  /** Returns true if an item of this type is on the cell. */
+  public boolean has(int type, int cell) {
+    return (present[type][cell >>> 6] & (1L << cell)) != 0;
+  }
+
+  /**
+   * Takes an item off the map.
+   *
+   * @param type the item type
+   * @param cell packed cell index
+   * @return true if the item was there
+   */
+  public boolean remove(int type, int cell) {
+    if (!has(type, cell)) {
+      return false;
+    }
+    present[type][cell >>> 6] &= ~(1L << cell);
+    remaining[type]--;
+    return true;
+  }
+
+  /** Returns the number of items of this type still on the map. */
+  public int count(int type) {
+    return remaining[type];
+  }
+
+  /**
+   * Returns the most recently placed item of this type that is still on the map.
+   *
+   * @param type the item type
+   * @return its packed cell, or -1 if none is left
+   */
+  public int last(int type) {
+    int[] cells = order[type];
+    int top = placed[type];
+    while (top > 0 && !has(type, cells[top - 1])) {
+      top--;
+    }
+    placed[type] = top;
+    return top == 0 ? -1 : cells[top - 1];
+  }
+
+  /**
+   * Removes and returns the most recently placed item of this type, as {@link #last(int)}.
+   *
+   * @param type the item type
+   * @return its packed cell, or -1 if none is left
+   */
+  public int removeLast(int type) {
+    int cell = last(type);
+    if (cell >= 0) {
+      remove(type, cell);
+    }
+    return cell;
+  }
+
+  /** Removes every item. */
+  public void clear() {
+    for (int type = 0; type < TYPES; type++) {
+      Arrays.fill(present[type], 0L);
+      placed[type] = 0;
+      remaining[type] = 0;
+    }
+  }
+}
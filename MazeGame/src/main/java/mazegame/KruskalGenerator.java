@@ -0,0 +1,80 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+
+/**
+ * Randomised Kruskal's algorithm. Every interior wall between two cells is an edge; the edges are
+ * shuffled once and each one is opened if it joins two different components. Components are tracked
+ * with a union-find over a flat {@code int[]} (union by size, path halving), so the run is
+ * effectively linear after the shuffle. Memory is roughly four {@code int}s per cell. Produces many
+ * short dead ends.
+ */
+public class KruskalGenerator implements MazeGenerator {
+
+  @Override
+  public String getName() {
+    return "kruskal";
+  }
+
+  @Override
+  public int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand) {
+    int cellsPerRow = maze.getCellsPerRow();
+    int cells = cellsPerRow * cellsPerRow;
+
+    // Edge e = cell * 2 + 0 joins cell to its east neighbour, cell * 2 + 1 to its south neighbour
+    int[] edges = new int[2 * cellsPerRow * (cellsPerRow - 1)];
+    int edgeCount = 0;
+    for (int cell = 0; cell < cells; cell++) {
+      maze.openCell(cell);
+      if (cell % cellsPerRow < cellsPerRow - 1) {
+        edges[edgeCount++] = cell << 1;
+      }
+      if (cell < cells - cellsPerRow) {
+        edges[edgeCount++] = (cell << 1) | 1;
+      }
+    }
+
+    int[] parent = new int[cells];
+    int[] size = new int[cells];
+    for (int i = 0; i < cells; i++) {
+      parent[i] = i;
+      size[i] = 1;
+    }
+
+    int opened = cells;
+    int joins = 0;
+    // Shuffle lazily: draw each next edge from the unprocessed tail, stop once the tree is complete
+    for (int i = 0; i < edgeCount && joins < cells - 1; i++) {
+      int j = i + rand.nextInt(edgeCount - i);
+      int edge = edges[j];
+      edges[j] = edges[i];
+
+      int a = edge >>> 1;
+      int b = (edge & 1) == 0 ? a + 1 : a + cellsPerRow;
+      int rootA = find(parent, a);
+      int rootB = find(parent, b);
+      if (rootA == rootB) {
+        continue;
+      }
+      if (size[rootA] < size[rootB]) {
+        int swap = rootA;
+        rootA = rootB;
+        rootB = swap;
+      }
+      parent[rootB] = rootA;
+      size[rootA] += size[rootB];
+      maze.openBetween(a, b);
+      opened++;
+      joins++;
+    }
+    return opened;
+  }
+
+  private static int find(int[] parent, int i) {
+    while (parent[i] != i) {
+      parent[i] = parent[parent[i]];
+      i = parent[i];
+    }
+    return i;
+  }
+}
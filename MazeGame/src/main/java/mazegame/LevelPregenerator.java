@@ -0,0 +1,113 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Builds the next level's maze in the background while the current one is played. {@link
+ * MazeGame#startLevel()} asks for level N+1 as soon as level N starts; when the player reaches it,
+ * {@link #take(int, int)} hands over the finished generator (grid, keys, bone, start and exit) so
+ * the transition skips generation entirely.
+ *
+ * <p>Work runs on a single daemon thread, so at most one maze is generated at a time and a pending
+ * job never keeps the JVM alive. Only one level is kept: asking for a different one discards the
+ * previous request. Methods are called from the thread that starts levels.
+ */
+public class LevelPregenerator {
+
+  private final int tileWH;
+  private final int tileBorder;
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "maze-pregen");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+          });
+
+  private int pendingLevel = -1;
+  private int pendingSize = -1;
+  private Future<RecursiveBacktracker> pending;
+
+  /**
+   * Creates a pre-generator for mazes with the given tile geometry.
+   *
+   * @param tileWH pixel width/height of each tile
+   * @param tileBorder border inset
+   */
+  public LevelPregenerator(int tileWH, int tileBorder) {
+    this.tileWH = tileWH;
+    this.tileBorder = tileBorder;
+  }
+
+  /**
+   * Starts generating a level in the background, replacing any other pending level.
+   *
+   * @param level the 1-based level number
+   * @param rowColAmount the level's grid size
+   */
+  public void prefetch(int level, int rowColAmount) {
+    if (pending != null && level == pendingLevel && rowColAmount == pendingSize) {
+      return;
+    }
+    if (pending != null) {
+      pending.cancel(false);
+    }
+    long seed = new SplittableRandom().nextLong();
+    MazeGenerator generator = MazeGenerators.forLevel(level, rowColAmount);
+    pendingLevel = level;
+    pendingSize = rowColAmount;
+    pending =
+        executor.submit(
+            () -> {
+              RecursiveBacktracker maze =
+                  new RecursiveBacktracker(tileWH, tileBorder, rowColAmount, seed, generator);
+              maze.generate();
+              return maze;
+            });
+  }
+
+  /**
+   * Hands over the pending maze if it was generated for this level, waiting for it to finish if
+   * needed.
+   *
+   * @param level the 1-based level number
+   * @param rowColAmount the level's grid size
+   * @return the fully generated maze as a future, or {@code null} if none was prepared for it
+   */
+  public Future<RecursiveBacktracker> take(int level, int rowColAmount) {
+    if (pending == null || level != pendingLevel || rowColAmount != pendingSize) {
+      return null;
+    }
+    Future<RecursiveBacktracker> result = pending;
+    pending = null;
+    pendingLevel = -1;
+    pendingSize = -1;
+    return result;
+  }
+
+  /**
+   * Waits for a future from {@link #take(int, int)}.
+   *
+   * @param future the handed-over future, may be {@code null}
+   * @return the generated maze, or {@code null} if there was none or generation failed
+   */
+  public static RecursiveBacktracker await(Future<RecursiveBacktracker> future) {
+    if (future == null) {
+      return null;
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (ExecutionException e) {
+      System.err.println("Background maze generation failed: " + e.getCause());
+      return null;
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package mazegame;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Persistent cache of generated mazes, keyed by seed, grid size and generator name. A cached maze
+ * loads with one memory-mapped read instead of running the generation pipeline, which matters for
+ * giant or frequently replayed levels.
+ *
+ * <p>File layout (big-endian): {@link #MAGIC}, {@link #VERSION}, seed, size, generator name (length
+ * byte + ASCII), start row/col, exit row/col, bone row/col, key count and the packed key cells in
+ * placement order, followed by 2 bits per grid cell ({@link #WALL}, {@link #PASSAGE}, {@link
+ * #EXIT}), four cells per byte, low bits first. Wall masks and grass are derived on load.
+ *
+ * <p>Like {@link AssetManager#saveLevelData(String[])}, failures are not fatal: a missing,
+ * unreadable or mismatched file is a cache miss, and a failed write (e.g. in the browser) is
+ * ignored.
+ */
+public class MazeCache {
+
+  /** Default cache directory, relative to the working directory like the save file. */
+  public static final String DEFAULT_DIR = "MazeCache";
+
+  /** File signature, ASCII {@code "MZC1"}. */
+  public static final int MAGIC = 0x4D5A4331;
+
+  /** Format version; bump when the layout changes. */
+  public static final int VERSION = 1;
+
+  public static final int WALL = 0;
+  public static final int PASSAGE = 1;
+  public static final int EXIT = 2;
+
+  // Store failures are expected wherever files are unavailable (e.g. the browser); report one
+  private static volatile boolean storeFailureReported;
+
+  private final File directory;
+
+  /**
+   * Creates a cache rooted at a directory. Nothing touches the disk until the first load or store.
+   *
+   * @param directory the cache directory, created on first store
+   */
+  public MazeCache(File directory) {
+    this.directory = directory;
+  }
+
+  /** Returns the cache directory. */
+  public File getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Returns the file a maze is cached in.
+   *
+   * @param seed the generation seed
+   * @param rowColAmount the grid size
+   * @param generator the generator name
+   * @return the cache file (which may not exist)
+   */
+  public File fileFor(long seed, int rowColAmount, String generator) {
+    return new File(
+        directory, generator + "-" + rowColAmount + "-" + Long.toHexString(seed) + ".maze");
+  }
+
+  /**
+   * Loads a cached maze.
+   *
+   * @param tileWH pixel width/height of each tile
+   * @param tileBorder border inset
+   * @param rowColAmount the grid size
+   * @param seed the generation seed
+   * @param generator the generator the maze was carved with
+   * @return the restored maze, or {@code null} on a cache miss
+   */
+  public RecursiveBacktracker load(
+      int tileWH, int tileBorder, int rowColAmount, long seed, MazeGenerator generator) {
+    File file = fileFor(seed, rowColAmount, generator.getName());
+    if (!file.isFile()) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (in.getInt() != MAGIC
+          || in.getInt() != VERSION
+          || in.getLong() != seed
+          || in.getInt() != rowColAmount) {
+        return null;
+      }
+      byte[] name = new byte[in.get() & 0xFF];
+      in.get(name);
+      if (!generator.getName().equals(new String(name, StandardCharsets.US_ASCII))) {
+        return null;
+      }
+      int startRow = in.getInt();
+      int startCol = in.getInt();
+      int exitRow = in.getInt();
+      int exitCol = in.getInt();
+      int boneRow = in.getInt();
+      int boneCol = in.getInt();
+      int[] keys = new int[in.getInt()];
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = in.getInt();
+      }
+
+      RecursiveBacktracker maze =
+          new RecursiveBacktracker(tileWH, tileBorder, rowColAmount, seed, generator);
+      MazeGrid grid = maze.getGrid();
+      int base = in.position();
+      int cell = 0;
+      for (int row = 0; row < rowColAmount; row++) {
+        for (int col = 0; col < rowColAmount; col++, cell++) {
+          int value = (in.get(base + (cell >>> 2)) >>> ((cell & 3) << 1)) & 3;
+          if (value != WALL) {
+            grid.setPassage(row, col);
+          }
+        }
+      }
+      grid.setExit(exitRow, exitCol);
+      maze.restore(startRow, startCol, keys, boneRow, boneCol);
+      return maze;
+    } catch (IOException | RuntimeException e) {
+      // Truncated or corrupt file — treat as a miss and regenerate
+      return null;
+    }
+  }
+
+  /**
+   * Writes a generated maze to the cache if the environment allows it. Call before the bone is
+   * cleared for a run, so the file holds the level as generated. Failures are not errors for the
+   * game, which just regenerates the level next time; the first one is reported on stderr.
+   *
+   * @param maze a generator whose {@link RecursiveBacktracker#generate()} has completed
+   */
+  public void store(RecursiveBacktracker maze) {
+    try {
+      write(maze);
+    } catch (IOException | SecurityException e) {
+      if (!storeFailureReported) {
+        storeFailureReported = true;
+        System.err.println("Maze cache not available in this environment: " + e);
+      }
+    }
+  }
+
+  /**
+   * Writes a generated maze to the cache, creating the directory if needed. The file is written
+   * under a temporary name and renamed, so a failed write never leaves a partial cache entry.
+   *
+   * @param maze a generator whose {@link RecursiveBacktracker#generate()} has completed
+   * @return the cache file
+   * @throws IOException if the directory or file cannot be written
+   */
+  public File write(RecursiveBacktracker maze) throws IOException {
+    MazeGrid grid = maze.getGrid();
+    int size = grid.getRowColAmount();
+    String name = maze.getGenerator().getName();
+    File file = fileFor(maze.getSeed(), size, name);
+    File temp = new File(directory, file.getName() + ".tmp");
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Cannot create " + directory);
+    }
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 1 << 16))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(maze.getSeed());
+        out.writeInt(size);
+        byte[] nameBytes = name.getBytes(StandardCharsets.US_ASCII);
+        out.writeByte(nameBytes.length);
+        out.write(nameBytes);
+        out.writeInt(maze.getStartingY());
+        out.writeInt(maze.getStartingX());
+        out.writeInt(grid.getExitRow());
+        out.writeInt(grid.getExitCol());
+        out.writeInt(grid.getBoneRow());
+        out.writeInt(grid.getBoneCol());
+        int[] keys = maze.getKeyCells();
+        out.writeInt(keys.length);
+        for (int key : keys) {
+          out.writeInt(key);
+        }
+
+        int packed = 0;
+        int shift = 0;
+        for (int row = 0; row < size; row++) {
+          for (int col = 0; col < size; col++) {
+            int value = grid.isExit(row, col) ? EXIT : grid.isPassage(row, col) ? PASSAGE : WALL;
+            packed |= value << shift;
+            shift += 2;
+            if (shift == 8) {
+              out.writeByte(packed);
+              packed = 0;
+              shift = 0;
+            }
+          }
+        }
+        if (shift != 0) {
+          out.writeByte(packed);
+        }
+      }
+      if (!temp.renameTo(file)) {
+        file.delete();
+        if (!temp.renameTo(file)) {
+          throw new IOException("Cannot rename " + temp + " to " + file);
+        }
+      }
+      return file;
+    } catch (IOException | RuntimeException e) {
+      temp.delete();
+      throw e;
+    }
+  }
+}
@@ -17,6 +17,7 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.SplittableRandom;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 
@@ -31,11 +32,18 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
 
   private static final int TILE_SIZE = 100;
   private static final int TILE_BORDER = 0;
-  private static final int MOVEMENT_SPEED = 8;
+  private static final double MOVEMENT_TILES_PER_SECOND = 2.4;
+
+  /** Player speed in 16.16 fixed-point pixels per second. */
+  private static final long MOVEMENT_SPEED =
+      Math.round(MOVEMENT_TILES_PER_SECOND * TILE_SIZE * Player.ONE);
+
+  private static final int HITBOX_INSET = TILE_SIZE / 4;
   private static final int INITIAL_GRID_SIZE = 10;
+  private static final int MAX_LEVEL = 30;
   private static final int PAUSE_TITLE_FONT_SIZE = 40;
 
-  private final GamePanel gameView = new GamePanel();
+  private final GameView gameView = GameView.create();
   private final int windowWidth;
   private final int windowHeight;
   private final UI ui;
@@ -44,6 +52,7 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
   private final AudioManager audioManager;
   private final MenuManager menuManager;
   private final InputHandler inputHandler;
+  private final LevelPregenerator pregenerator = new LevelPregenerator(TILE_SIZE, TILE_BORDER);
 
   private volatile boolean gameInProgress;
   private volatile boolean paused;
@@ -66,6 +75,7 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
   private JPanel pane = newPane();
   private int levelCount = 1;
   private int rowColAmount;
+  private boolean endless;
   private String stateChange;
   private String[] levelData;
   private GameLoop gameLoop;
@@ -75,9 +85,6 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
   /** Invisible cursor applied during gameplay so the mouse pointer doesn't distract. */
   private final Cursor blankCursor;
 
-  // Always render to an offscreen buffer at the logical resolution, then scale to the canvas.
-  private BufferedImage offscreenBuffer = null;
-
   /**
    * Creates a new game instance.
    *
@@ -271,9 +278,9 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
     return count;
   }
 
-  /** Advances to the next level (up to 30). */
+  /** Advances to the next level (up to {@value #MAX_LEVEL}). */
   public void increaseLevel() {
-    if (levelCount < 30) {
+    if (levelCount < MAX_LEVEL) {
       levelCount += 1;
       rowColAmount += 2;
     }
@@ -344,9 +351,24 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
 
   /**
    * Starts (or restarts) a level. Reuses this JFrame — stops any running game loop, sets up the
-   * canvas, generates the maze, and starts a new loop.
+   * canvas, takes the maze pre-generated for this level (or generates one), queues the next level
+   * for background generation, and starts a new loop.
    */
   public void startLevel() {
+    endless = false;
+    launch();
+  }
+
+  /**
+   * Starts an endless run: a {@link ChunkedMazeWorld} with a fresh seed, carved chunk by chunk as
+   * the player explores. There are no keys or exit; the run ends from the pause menu.
+   */
+  public void startEndless() {
+    endless = true;
+    launch();
+  }
+
+  private void launch() {
     // Stop any existing game loop
     if (gameLoop != null) {
       gameLoop.stop();
@@ -364,9 +386,8 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
     inputHandler.bindMovementKeys(pane);
     inputHandler.installGlobalDispatcher();
 
-    pane.add(gameView);
-    gameView.setFocusable(true);
-    gameView.setCursor(blankCursor);
+    pane.add(gameView.getComponent());
+    gameView.getComponent().setCursor(blankCursor);
     validate(); // Force layout so gameView has non-zero dimensions before first render
 
     renderer =
@@ -380,7 +401,15 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
             settings,
             this,
             isBoneCollected(levelCount));
-    renderer.generateMaze(TILE_SIZE, TILE_BORDER);
+    if (endless) {
+      renderer.useWorld(new ChunkedMazeWorld(new SplittableRandom().nextLong()));
+    } else {
+      renderer.loadMaze(
+          TILE_SIZE, TILE_BORDER, levelCount, pregenerator.take(levelCount, rowColAmount));
+      if (levelCount < MAX_LEVEL) {
+        pregenerator.prefetch(levelCount + 1, rowColAmount + 2);
+      }
+    }
     renderer.centerMaze();
     player = new Player(renderer.getStartingX(), renderer.getStartingY(), TILE_SIZE);
     renderer.beginTimer();
@@ -392,10 +421,10 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
     setGameState(true, "");
     render();
 
-    inputHandler.bindPauseMouseClicks(gameView);
-    inputHandler.bindTouchControls(gameView);
+    inputHandler.bindPauseMouseClicks(gameView.getComponent());
+    inputHandler.bindTouchControls(gameView.getComponent());
 
-    gameLoop = new GameLoop(this);
+    gameLoop = new GameLoop(this, settings.getSimulationRate(), settings.getRenderRate());
     gameLoop.setOnComplete(
         () -> {
           inputHandler.removeGlobalDispatcher();
@@ -411,7 +440,7 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
   }
 
   private void cleanUpGameView() {
-    gameView.setCursor(Cursor.getDefaultCursor());
+    gameView.getComponent().setCursor(Cursor.getDefaultCursor());
     renderBackground();
     if (renderer != null) {
       renderer.stopTimer();
@@ -427,7 +456,7 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
       double timeInMs = renderer.getTimeTaken();
       menuManager.showCompletionScreen(levelCount, timeInMs);
     } else if ("Restart".equalsIgnoreCase(stateChange)) {
-      startLevel();
+      launch();
     } else if ("Menu".equalsIgnoreCase(stateChange)) {
       menuManager.showMainMenu();
     }
@@ -446,7 +475,7 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
     }
 
     try {
-      super.remove(gameView);
+      super.remove(gameView.getComponent());
       pane.removeAll();
     } catch (Exception e) {
       // Ignore cleanup errors
@@ -473,8 +502,8 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
   // ---------------------------------------------------------------------------
 
   @Override
-  public void onUpdate() {
-    update();
+  public void onUpdate(long elapsedNanos) {
+    update(elapsedNanos);
   }
 
   @Override
@@ -602,31 +631,17 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
   // ---------------------------------------------------------------------------
 
   /**
-   * Returns graphics for the offscreen buffer at the fixed logical resolution. All game rendering
-   * happens at this resolution; the result is scaled to the canvas in {@link #showBuffer()}.
+   * Returns graphics for the next frame at the fixed logical resolution, or {@code null} if the
+   * view cannot draw yet. All game rendering happens at this resolution; the result is scaled to
+   * the view in {@link #showBuffer()}.
    */
   private Graphics getGameGraphics() {
-    if (offscreenBuffer == null
-        || offscreenBuffer.getWidth() != windowWidth
-        || offscreenBuffer.getHeight() != windowHeight) {
-      offscreenBuffer = new BufferedImage(windowWidth, windowHeight, BufferedImage.TYPE_INT_ARGB);
-    }
-    return offscreenBuffer.getGraphics();
+    return gameView.beginFrame(windowWidth, windowHeight);
   }
 
-  /**
-   * Pushes the offscreen buffer to the game panel and triggers an immediate repaint. Since the game
-   * loop now runs on the EDT via {@link javax.swing.Timer}, we can call {@code paintImmediately}
-   * directly for reliable rendering in CheerpJ.
-   */
+  /** Puts the frame on screen through the platform's {@link GameView}. */
   private void showBuffer() {
-    if (offscreenBuffer == null) return;
-    gameView.setBuffer(offscreenBuffer);
-    int w = gameView.getWidth();
-    int h = gameView.getHeight();
-    if (w > 0 && h > 0) {
-      gameView.paintImmediately(0, 0, w, h);
-    }
+    gameView.showFrame();
   }
 
   /**
@@ -634,8 +649,8 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
    * scale factor and letterbox offset.
    */
   public int[] toLogicalCoords(int canvasX, int canvasY) {
-    int cw = gameView.getWidth();
-    int ch = gameView.getHeight();
+    int cw = gameView.getComponent().getWidth();
+    int ch = gameView.getComponent().getHeight();
     if (cw <= 0 || ch <= 0) return new int[] {canvasX, canvasY};
 
     double scale = Math.min((double) cw / windowWidth, (double) ch / windowHeight);
@@ -647,69 +662,59 @@ public class MazeGame extends JFrame implements GameLoop.Callbacks, InputHandler
     return new int[] {(int) ((canvasX - offsetX) / scale), (int) ((canvasY - offsetY) / scale)};
   }
 
-  public void update() {
+  /**
+   * Advances the game by the given play time: moves the player at {@link
+   * #MOVEMENT_TILES_PER_SECOND} in each held direction, then handles level completion.
+   *
+   * @param elapsedNanos play time since the previous update
+   */
+  public void update(long elapsedNanos) {
     // Check if confetti delay has elapsed → trigger level complete
     renderer.checkPendingCompletion(this);
     // Block movement while confetti plays
     if (renderer.isPendingLevelComplete()) return;
 
-    int halfPlayer = player.getSize() / 2;
-    Graphics g = getGameGraphics();
-    if (g == null) return;
-
-    if (player.getMoveN()) {
-      int[] nextTile =
-          renderer.getTile(
-              player.getX(),
-              player.getY() - (halfPlayer + 1),
-              player.getSize(),
-              TILE_SIZE,
-              TILE_BORDER);
-      if (renderer.checkCollision(nextTile, this)) {
-        renderer.moveMazeY(rowColAmount, MOVEMENT_SPEED);
-        player.setY(player.getY() - MOVEMENT_SPEED);
+    long step = MOVEMENT_SPEED * elapsedNanos / 1_000_000_000L;
+    int dirY = (player.getMoveS() ? 1 : 0) - (player.getMoveN() ? 1 : 0);
+    if (dirY != 0) {
+      long target = player.getFixedY() + dirY * step;
+      int wanted = Player.toPixels(target) - player.getY();
+      int moved = renderer.sweepY(boxLeft(), boxTop(), hitbox(), wanted);
+      if (moved != 0) {
+        renderer.moveMazeY(rowColAmount, -moved);
       }
+      // Keep the sub-pixel remainder unless a wall cut the step short
+      player.setFixedY(moved == wanted ? target : Player.toFixed(player.getY() + moved));
     }
-    if (player.getMoveE()) {
-      int[] nextTile =
-          renderer.getTile(
-              player.getX() + (halfPlayer + 1),
-              player.getY(),
-              player.getSize(),
-              TILE_SIZE,
-              TILE_BORDER);
-      if (renderer.checkCollision(nextTile, this)) {
-        renderer.moveMazeX(rowColAmount, -MOVEMENT_SPEED);
-        player.setX(player.getX() + MOVEMENT_SPEED);
+    int dirX = (player.getMoveE() ? 1 : 0) - (player.getMoveW() ? 1 : 0);
+    if (dirX != 0) {
+      long target = player.getFixedX() + dirX * step;
+      int wanted = Player.toPixels(target) - player.getX();
+      int moved = renderer.sweepX(boxLeft(), boxTop(), hitbox(), wanted);
+      if (moved != 0) {
+        renderer.moveMazeX(rowColAmount, -moved);
       }
+      player.setFixedX(moved == wanted ? target : Player.toFixed(player.getX() + moved));
     }
-    if (player.getMoveS()) {
-      int[] nextTile =
-          renderer.getTile(
-              player.getX(),
-              player.getY() + (halfPlayer + 1),
-              player.getSize(),
-              TILE_SIZE,
-              TILE_BORDER);
-      if (renderer.checkCollision(nextTile, this)) {
-        renderer.moveMazeY(rowColAmount, -MOVEMENT_SPEED);
-        player.setY(player.getY() + MOVEMENT_SPEED);
-      }
-    }
-    if (player.getMoveW()) {
-      int[] nextTile =
-          renderer.getTile(
-              player.getX() - (halfPlayer + 1),
-              player.getY(),
-              player.getSize(),
-              TILE_SIZE,
-              TILE_BORDER);
-      if (renderer.checkCollision(nextTile, this)) {
-        renderer.moveMazeX(rowColAmount, MOVEMENT_SPEED);
-        player.setX(player.getX() - MOVEMENT_SPEED);
-      }
-    }
-    g.dispose();
+  }
+
+  /**
+   * Returns the left edge of the player's collision box. The box is the sprite inset by {@link
+   * #HITBOX_INSET} on every side, so the player can turn into a corridor without lining up to the
+   * pixel.
+   */
+  private int boxLeft() {
+    return player.getX() + HITBOX_INSET;
+  }
+
+  /** Returns the top edge of the player's collision box. */
+  private int boxTop() {
+    return player.getY() + HITBOX_INSET;
+  }
+
+  /** Returns the width and height of the player's collision box. */
+  private int hitbox() {
+    return player.getSize() - 2 * HITBOX_INSET;
   }
 
   public void render() {
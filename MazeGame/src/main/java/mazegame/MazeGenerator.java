@@ -0,0 +1,30 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+
+/**
+ * Strategy for carving a perfect maze (exactly one path between any two cells) into an all-walls
+ * {@link MazeStorage}, on the heap ({@link MazeGrid}) or off it ({@link OffHeapMazeGrid}). Maze
+ * cells sit at odd row/column indices with wall tiles in between; every implementation opens all
+ * cells plus one connecting wall per spanning-tree edge, so the exit, key and bone placement in
+ * {@link RecursiveBacktracker} works unchanged on top of any of them.
+ *
+ * <p>Implementations are stateless and may be shared between threads; all randomness comes from the
+ * supplied {@link SplittableRandom}. See {@link MazeGenerators} for the registry.
+ */
+public interface MazeGenerator {
+
+  /** Returns the short name this generator is registered under, e.g. {@code "kruskal"}. */
+  String getName();
+
+  /**
+   * Carves a perfect maze.
+   *
+   * @param maze an all-walls grid with an odd size
+   * @param startRow odd starting row (only meaningful for algorithms that grow from a seed cell)
+   * @param startCol odd starting column
+   * @param rand source of randomness
+   * @return the number of passage tiles opened
+   */
+  int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand);
+}
@@ -0,0 +1,106 @@
+package mazegame;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registry of the built-in {@link MazeGenerator} implementations, looked up by name or chosen by
+ * grid size.
+ *
+ * <p>Rough cost per cell, fastest first: binary-tree (no state), Eller's (one row of state),
+ * backtracker, growing-tree and Prim's (one {@code int} per cell), Kruskal (edge list plus
+ * union-find), Wilson's (random walks; slowest to get started). The parallel generator splits the
+ * grid across the common fork/join pool. Campaign levels mostly use the backtracker because its
+ * long corridors suit the game; {@link #forLevel(int, int)} eases the first levels in with Prim's
+ * and growing-tree mazes, whose short dead ends are quicker to read. {@link #forSize(int)} switches
+ * to Eller's once a grid is large enough that per-cell bookkeeping starts to dominate, and to the
+ * parallel generator beyond that. The choice depends only on the level and size, never on the
+ * machine, so a seed reproduces the same maze everywhere.
+ */
+public final class MazeGenerators {
+
+  /** Name of the generator used for campaign levels. */
+  public static final String DEFAULT = "backtracker";
+
+  /** Grid size from which {@link #forSize(int)} prefers the row-at-a-time generator. */
+  public static final int LARGE_GRID = 1001;
+
+  /** Grid size from which {@link #forSize(int)} prefers the parallel generator. */
+  public static final int HUGE_GRID = 2001;
+
+  /**
+   * Generators for the opening campaign levels, indexed by level - 1; later levels use {@link
+   * #forSize(int)}.
+   */
+  private static final String[] EARLY_LEVELS = {
+    "prim", "prim", "growing-tree", "growing-tree", "growing-tree"
+  };
+
+  private static final Map<String, MazeGenerator> BY_NAME = new LinkedHashMap<>();
+
+  static {
+    register(new BacktrackerGenerator());
+    register(new KruskalGenerator());
+    register(new PrimGenerator());
+    register(new WilsonGenerator());
+    register(new EllerGenerator());
+    register(new BinaryTreeGenerator());
+    register(new GrowingTreeGenerator());
+    register(new ParallelMazeGenerator());
+  }
+
+  private MazeGenerators() {}
+
+  private static void register(MazeGenerator generator) {
+    BY_NAME.put(generator.getName(), generator);
+  }
+
+  /**
+   * Looks up a generator by its registered name.
+   *
+   * @param name e.g. {@code "kruskal"}
+   * @return the generator
+   * @throws IllegalArgumentException if no generator has that name
+   */
+  public static MazeGenerator byName(String name) {
+    MazeGenerator generator = BY_NAME.get(name);
+    if (generator == null) {
+      throw new IllegalArgumentException("Unknown maze generator: " + name);
+    }
+    return generator;
+  }
+
+  /** Returns the registered names in registration order. */
+  public static String[] names() {
+    return BY_NAME.keySet().toArray(new String[0]);
+  }
+
+  /**
+   * Picks the fastest acceptable generator for a grid size.
+   *
+   * @param rowColAmount the odd grid size
+   * @return the backtracker for playable sizes, Eller's for large and the parallel generator for
+   *     huge grids
+   */
+  public static MazeGenerator forSize(int rowColAmount) {
+    if (rowColAmount >= HUGE_GRID) {
+      return byName("parallel");
+    }
+    return byName(rowColAmount >= LARGE_GRID ? "eller" : DEFAULT);
+  }
+
+  /**
+   * Picks the generator for a campaign level: Prim's for levels 1-2, growing-tree for 3-5, then
+   * {@link #forSize(int)}.
+   *
+   * @param level the 1-based level number
+   * @param rowColAmount the level's grid size
+   * @return the generator to use
+   */
+  public static MazeGenerator forLevel(int level, int rowColAmount) {
+    if (level >= 1 && level <= EARLY_LEVELS.length && rowColAmount < LARGE_GRID) {
+      return byName(EARLY_LEVELS[level - 1]);
+    }
+    return forSize(rowColAmount);
+  }
+}
@@ -0,0 +1,288 @@
+package mazegame;
+
+/**
+ * Compact maze storage. Open cells, keys and explored flags are kept in row-aligned {@code long[]}
+ * bitsets; wall neighbour masks and grass variants share one {@code byte} per cell. The exit and
+ * bone are single cells and are stored as coordinates. A 1001×1001 grid costs roughly 1.4 MB
+ * instead of a million {@link Tile} objects.
+ *
+ * <p>Tile queries are also available through {@link MazeStorage}, which {@link OffHeapMazeGrid}
+ * implements for boards too large for the heap.
+ *
+ * <p>{@link Tile} instances are only produced on demand as views (see {@link
+ * Tilemap#getTile(MazeGrid, int, int)}). Generators carve through {@link MazeStorage}; the renderer
+ * and item placement work against this class directly, since keys, the bone and explored flags live
+ * only here.
+ */
+public class MazeGrid implements MazeStorage {
+
+  /** Wall neighbour bit for a passage to the north. */
+  public static final int NORTH = 0b1000;
+
+  /** Wall neighbour bit for a passage to the east. */
+  public static final int EAST = 0b0100;
+
+  /** Wall neighbour bit for a passage to the south. */
+  public static final int SOUTH = 0b0010;
+
+  /** Wall neighbour bit for a passage to the west. */
+  public static final int WEST = 0b0001;
+
+  /**
+   * Largest odd grid size whose per-cell {@code byte[]} can be indexed by an {@code int}; bigger
+   * boards need {@link OffHeapMazeGrid}.
+   */
+  public static final int MAX_ROW_COL_AMOUNT = 46339;
+
+  private static final int WALL_MASK_BITS = 0x0F;
+  private static final int GRASS_SHIFT = 4;
+  private static final int GRASS_BITS = 0x30;
+
+  private final int rowColAmount;
+  private final int wordsPerRow;
+  private final long[] passages;
+  private final long[] keys;
+  private final long[] explored;
+  private final byte[] attributes;
+  private int exitRow = -1;
+  private int exitCol = -1;
+  private int boneRow = -1;
+  private int boneCol = -1;
+
+  /**
+   * Creates an all-walls grid.
+   *
+   * @param rowColAmount number of rows and columns
+   * @throws IllegalArgumentException if the size exceeds {@link #MAX_ROW_COL_AMOUNT}
+   */
+  public MazeGrid(int rowColAmount) {
+    if (rowColAmount > MAX_ROW_COL_AMOUNT) {
+      throw new IllegalArgumentException(
+          "Grid size " + rowColAmount + " exceeds " + MAX_ROW_COL_AMOUNT);
+    }
+    this.rowColAmount = rowColAmount;
+    this.wordsPerRow = (rowColAmount + 63) >>> 6;
+    this.passages = new long[wordsPerRow * rowColAmount];
+    this.keys = new long[passages.length];
+    this.explored = new long[passages.length];
+    this.attributes = new byte[rowColAmount * rowColAmount];
+  }
+
+  /** Returns the number of rows (and columns) in the grid. */
+  @Override
+  public int getRowColAmount() {
+    return rowColAmount;
+  }
+
+  /** Returns the number of {@code long} words backing each bitset row. */
+  public int getWordsPerRow() {
+    return wordsPerRow;
+  }
+
+  // ---------------------------------------------------------------------------
+  // Walls, passages and the exit
+  // ---------------------------------------------------------------------------
+
+  /** Returns true if the cell is open (a passage or the exit). */
+  @Override
+  public boolean isPassage(int row, int col) {
+    return (passages[word(row, col)] & bit(col)) != 0;
+  }
+
+  /** Returns true if the cell is solid wall. */
+  @Override
+  public boolean isWall(int row, int col) {
+    return !isPassage(row, col);
+  }
+
+  /** Opens the cell as a passage. */
+  @Override
+  public void setPassage(int row, int col) {
+    passages[word(row, col)] |= bit(col);
+  }
+
+  /**
+   * Opens every tile set in a row bitset. Matches {@link MazeRowConsumer}, so a grid can subscribe
+   * to {@link StreamingEllerGenerator} as {@code grid::setPassageRow}.
+   *
+   * @param row the tile row
+   * @param words row bitset with at least {@link #getWordsPerRow()} words
+   */
+  @Override
+  public void setPassageRow(int row, long[] words) {
+    int base = row * wordsPerRow;
+    for (int i = 0; i < wordsPerRow; i++) {
+      passages[base + i] |= words[i];
+    }
+  }
+
+  /** Returns true if the cell is the exit. */
+  @Override
+  public boolean isExit(int row, int col) {
+    return row == exitRow && col == exitCol;
+  }
+
+  /** Marks an open cell as the exit. Any previous exit reverts to a plain passage. */
+  @Override
+  public void setExit(int row, int col) {
+    setPassage(row, col);
+    exitRow = row;
+    exitCol = col;
+  }
+
+  public int getExitRow() {
+    return exitRow;
+  }
+
+  public int getExitCol() {
+    return exitCol;
+  }
+
+  /**
+   * Counts open cells, excluding the exit, with one {@link Long#bitCount} per word.
+   *
+   * @return the number of passage cells
+   */
+  public int countPassages() {
+    int count = 0;
+    for (long word : passages) {
+      count += Long.bitCount(word);
+    }
+    return exitRow >= 0 ? count - 1 : count;
+  }
+
+  // ---------------------------------------------------------------------------
+  // Items and exploration
+  // ---------------------------------------------------------------------------
+
+  /** Returns true if a key lies on the cell. */
+  public boolean hasKey(int row, int col) {
+    return (keys[word(row, col)] & bit(col)) != 0;
+  }
+
+  /** Places or removes a key on the cell. */
+  public void setKey(int row, int col, boolean key) {
+    if (key) {
+      keys[word(row, col)] |= bit(col);
+    } else {
+      keys[word(row, col)] &= ~bit(col);
+    }
+  }
+
+  /** Returns true if the bone collectible lies on the cell. */
+  public boolean isBone(int row, int col) {
+    return row == boneRow && col == boneCol;
+  }
+
+  /** Places the bone on the cell, or clears it when given {@code -1, -1}. */
+  public void setBone(int row, int col) {
+    boneRow = row;
+    boneCol = col;
+  }
+
+  public int getBoneRow() {
+    return boneRow;
+  }
+
+  public int getBoneCol() {
+    return boneCol;
+  }
+
+  /** Returns true if the player has visited the cell. */
+  public boolean isExplored(int row, int col) {
+    return (explored[word(row, col)] & bit(col)) != 0;
+  }
+
+  /** Marks the cell as visited by the player. */
+  public void setExplored(int row, int col) {
+    explored[word(row, col)] |= bit(col);
+  }
+
+  // ---------------------------------------------------------------------------
+  // Per-cell attributes
+  // ---------------------------------------------------------------------------
+
+  /**
+   * Returns the wall's NESW passage-neighbour mask ({@link #NORTH} | {@link #EAST} | {@link #SOUTH}
+   * | {@link #WEST}).
+   */
+  @Override
+  public int getWallMask(int row, int col) {
+    return attributes[row * rowColAmount + col] & WALL_MASK_BITS;
+  }
+
+  /** Stores the wall's NESW passage-neighbour mask. */
+  public void setWallMask(int row, int col, int mask) {
+    int i = row * rowColAmount + col;
+    attributes[i] = (byte) ((attributes[i] & ~WALL_MASK_BITS) | (mask & WALL_MASK_BITS));
+  }
+
+  /**
+   * Recomputes every wall's neighbour mask from the passage bitsets. Each row is handled 64 tiles
+   * per {@code long}: the north and south masks are the neighbouring rows' words, east and west are
+   * the row's own word shifted by one with the carry bit from the adjacent word. The exit counts as
+   * a wall neighbour, not a passage, so it is cleared from the words first. Passage masks are left
+   * untouched.
+   */
+  public void computeWallMasks() {
+    for (int row = 0; row < rowColAmount; row++) {
+      int rowBase = row * rowColAmount;
+      for (int w = 0; w < wordsPerRow; w++) {
+        long open = openWord(row, w);
+        long north = row > 0 ? openWord(row - 1, w) : 0L;
+        long south = row + 1 < rowColAmount ? openWord(row + 1, w) : 0L;
+        long next = w + 1 < wordsPerRow ? openWord(row, w + 1) : 0L;
+        long prev = w > 0 ? openWord(row, w - 1) : 0L;
+        long east = (open >>> 1) | (next << 63);
+        long west = (open << 1) | (prev >>> 63);
+
+        int colBase = w << 6;
+        long walls = ~passages[row * wordsPerRow + w];
+        if (colBase + 64 > rowColAmount) {
+          walls &= (1L << (rowColAmount - colBase)) - 1;
+        }
+        while (walls != 0) {
+          int b = Long.numberOfTrailingZeros(walls);
+          walls &= walls - 1;
+          int mask =
+              (int) ((north >>> b) & 1) << 3
+                  | (int) ((east >>> b) & 1) << 2
+                  | (int) ((south >>> b) & 1) << 1
+                  | (int) ((west >>> b) & 1);
+          int i = rowBase + colBase + b;
+          attributes[i] = (byte) ((attributes[i] & ~WALL_MASK_BITS) | mask);
+        }
+      }
+    }
+  }
+
+  /** Returns a passage word with the exit cleared. */
+  private long openWord(int row, int w) {
+    long open = passages[row * wordsPerRow + w];
+    if (row == exitRow && (exitCol >>> 6) == w) {
+      open &= ~bit(exitCol);
+    }
+    return open;
+  }
+
+  /** Returns the grass background variant (0-3). */
+  @Override
+  public int getGrassVariant(int row, int col) {
+    return (attributes[row * rowColAmount + col] & GRASS_BITS) >>> GRASS_SHIFT;
+  }
+
+  /** Stores the grass background variant (0-3). */
+  public void setGrassVariant(int row, int col, int variant) {
+    int i = row * rowColAmount + col;
+    attributes[i] =
+        (byte) ((attributes[i] & ~GRASS_BITS) | ((variant << GRASS_SHIFT) & GRASS_BITS));
+  }
+
+  private int word(int row, int col) {
+    return row * wordsPerRow + (col >>> 6);
+  }
+
+  private static long bit(int col) {
+    return 1L << col; // Java masks the shift distance to the low 6 bits
+  }
+}
@@ -0,0 +1,134 @@
+package mazegame;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a {@link MazeStorage} as an 8-bit greyscale PNG, one pixel per tile, without touching AWT
+ * or ImageIO, so it works in headless tools. Rows are streamed through a {@link Deflater} and split
+ * into 64 KB {@code IDAT} chunks, so memory stays flat for very large grids.
+ */
+public final class MazePngWriter {
+
+  /** Pixel value of wall tiles. */
+  public static final int WALL_SHADE = 0x00;
+
+  /** Pixel value of passage tiles. */
+  public static final int PASSAGE_SHADE = 0xFF;
+
+  /** Pixel value of the exit tile. */
+  public static final int EXIT_SHADE = 0x80;
+
+  private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  private MazePngWriter() {}
+
+  /**
+   * Encodes the grid. The stream is not closed.
+   *
+   * @param grid the maze grid
+   * @param out destination stream
+   * @throws IOException if writing fails
+   */
+  public static void write(MazeStorage grid, OutputStream out) throws IOException {
+    int size = grid.getRowColAmount();
+    DataOutputStream data = new DataOutputStream(out);
+    data.write(SIGNATURE);
+
+    byte[] header = new byte[13];
+    putInt(header, 0, size);
+    putInt(header, 4, size);
+    header[8] = 8; // bit depth
+    header[9] = 0; // colour type: greyscale
+    writeChunk(data, "IHDR", header, header.length);
+
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    IdatStream idat = new IdatStream(data);
+    try (DeflaterOutputStream pixels = new DeflaterOutputStream(idat, deflater, CHUNK_SIZE)) {
+      byte[] row = new byte[size + 1]; // leading filter byte 0 (None)
+      for (int r = 0; r < size; r++) {
+        for (int c = 0; c < size; c++) {
+          int shade =
+              grid.isExit(r, c) ? EXIT_SHADE : grid.isPassage(r, c) ? PASSAGE_SHADE : WALL_SHADE;
+          row[c + 1] = (byte) shade;
+        }
+        pixels.write(row);
+      }
+    } finally {
+      deflater.end();
+    }
+    writeChunk(data, "IEND", new byte[0], 0);
+    data.flush();
+  }
+
+  private static void writeChunk(DataOutputStream out, String type, byte[] body, int length)
+      throws IOException {
+    byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+    CRC32 crc = new CRC32();
+    crc.update(typeBytes);
+    crc.update(body, 0, length);
+    out.writeInt(length);
+    out.write(typeBytes);
+    out.write(body, 0, length);
+    out.writeInt((int) crc.getValue());
+  }
+
+  private static void putInt(byte[] buf, int offset, int value) {
+    buf[offset] = (byte) (value >>> 24);
+    buf[offset + 1] = (byte) (value >>> 16);
+    buf[offset + 2] = (byte) (value >>> 8);
+    buf[offset + 3] = (byte) value;
+  }
+
+  /** Buffers compressed bytes and emits them as {@code IDAT} chunks; close flushes the rest. */
+  private static final class IdatStream extends OutputStream {
+
+    private final DataOutputStream out;
+    private final byte[] buffer = new byte[CHUNK_SIZE];
+    private int count;
+
+    IdatStream(DataOutputStream out) {
+      this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (count == buffer.length) {
+        flushChunk();
+      }
+      buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      while (len > 0) {
+        if (count == buffer.length) {
+          flushChunk();
+        }
+        int n = Math.min(len, buffer.length - count);
+        System.arraycopy(b, off, buffer, count, n);
+        count += n;
+        off += n;
+        len -= n;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (count > 0) {
+        flushChunk();
+      }
+    }
+
+    private void flushChunk() throws IOException {
+      writeChunk(out, "IDAT", buffer, count);
+      count = 0;
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package mazegame;
+
+/**
+ * Receives a maze one tile row at a time from {@link StreamingEllerGenerator}. Rows follow the
+ * {@link Tilemap} conventions: row 0 and the last row are solid border, odd rows hold cells and the
+ * walls between horizontally adjacent cells, even rows hold the walls between vertically adjacent
+ * cells.
+ */
+public interface MazeRowConsumer {
+
+  /**
+   * Accepts the next row.
+   *
+   * @param row the tile row index, strictly increasing from 0
+   * @param passages open tiles as a bitset (bit {@code col & 63} of word {@code col >>> 6}), laid
+   *     out like a {@link MazeGrid} row; the array is reused for the next row, so copy what you
+   *     keep
+   */
+  void acceptRow(int row, long[] passages);
+}
@@ -0,0 +1,58 @@
+package mazegame;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams maze rows to a file as they are generated, so arbitrarily tall mazes never have to fit in
+ * memory.
+ *
+ * <p>Format: the {@link #MAGIC} int, then width and height as big-endian ints, then one row after
+ * another with {@code (width + 7) / 8} bytes per row; bit {@code col & 7} of byte {@code col >>> 3}
+ * is set for an open tile.
+ */
+public class MazeRowFileWriter implements MazeRowConsumer, Closeable {
+
+  /** File signature, ASCII {@code "MZRW"}. */
+  public static final int MAGIC = 0x4D5A5257;
+
+  private final DataOutputStream out;
+  private final byte[] rowBytes;
+
+  /**
+   * Opens the file and writes the header.
+   *
+   * @param path destination file
+   * @param width number of tile columns
+   * @param height number of tile rows
+   * @throws IOException if the file cannot be created
+   */
+  public MazeRowFileWriter(String path, int width, int height) throws IOException {
+    this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path), 1 << 16));
+    this.rowBytes = new byte[(width + 7) >>> 3];
+    out.writeInt(MAGIC);
+    out.writeInt(width);
+    out.writeInt(height);
+  }
+
+  @Override
+  public void acceptRow(int row, long[] passages) {
+    for (int i = 0; i < rowBytes.length; i++) {
+      rowBytes[i] = (byte) (passages[i >>> 3] >>> ((i & 7) << 3));
+    }
+    try {
+      out.write(rowBytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
@@ -0,0 +1,115 @@
+package mazegame;
+
+/**
+ * Tile-level access to a square maze, shared by the on-heap {@link MazeGrid} and the off-heap
+ * {@link OffHeapMazeGrid}. Coordinates follow the {@link Tilemap} conventions. Storage can receive
+ * rows straight from {@link StreamingEllerGenerator}, since it is also a {@link MazeRowConsumer},
+ * and every {@link MazeGenerator} carves through it.
+ */
+public interface MazeStorage extends MazeRowConsumer {
+
+  /** Returns the number of rows (and columns). */
+  int getRowColAmount();
+
+  /** Returns true if the coordinates fall inside the maze. */
+  default boolean inBounds(int row, int col) {
+    int size = getRowColAmount();
+    return row >= 0 && row < size && col >= 0 && col < size;
+  }
+
+  /** Returns true if the tile is open (a passage or the exit). */
+  boolean isPassage(int row, int col);
+
+  /** Returns true if the tile is solid wall. */
+  default boolean isWall(int row, int col) {
+    return !isPassage(row, col);
+  }
+
+  /** Opens the tile as a passage. */
+  void setPassage(int row, int col);
+
+  /**
+   * Opens every tile set in a row bitset.
+   *
+   * @param row the tile row
+   * @param words row bitset, bit {@code col & 63} of word {@code col >>> 6}
+   */
+  void setPassageRow(int row, long[] words);
+
+  /** Returns true if the tile is the exit. */
+  boolean isExit(int row, int col);
+
+  /** Marks an open tile as the exit. Any previous exit reverts to a plain passage. */
+  void setExit(int row, int col);
+
+  /**
+   * Returns the wall's NESW passage-neighbour mask ({@link MazeGrid#NORTH} | {@link MazeGrid#EAST}
+   * | {@link MazeGrid#SOUTH} | {@link MazeGrid#WEST}). The exit does not count as a passage. The
+   * default derives it from the four neighbours.
+   */
+  default int getWallMask(int row, int col) {
+    int size = getRowColAmount();
+    int mask = 0;
+    if (row > 0 && isPassage(row - 1, col) && !isExit(row - 1, col)) {
+      mask |= MazeGrid.NORTH;
+    }
+    if (col + 1 < size && isPassage(row, col + 1) && !isExit(row, col + 1)) {
+      mask |= MazeGrid.EAST;
+    }
+    if (row + 1 < size && isPassage(row + 1, col) && !isExit(row + 1, col)) {
+      mask |= MazeGrid.SOUTH;
+    }
+    if (col > 0 && isPassage(row, col - 1) && !isExit(row, col - 1)) {
+      mask |= MazeGrid.WEST;
+    }
+    return mask;
+  }
+
+  /** Returns the grass background variant (0-3). */
+  int getGrassVariant(int row, int col);
+
+  // ---------------------------------------------------------------------------
+  // Maze cells (odd row/column indices) for generators
+  // ---------------------------------------------------------------------------
+
+  /** Returns the number of maze cells per row, i.e. odd indices in {@code [1, size - 2]}. */
+  default int getCellsPerRow() {
+    return (getRowColAmount() - 1) / 2;
+  }
+
+  /** Returns true if the maze cell (packed {@code cellRow * cellsPerRow + cellCol}) is open. */
+  default boolean isCellOpen(int cell) {
+    int cellsPerRow = getCellsPerRow();
+    int cellRow = cell / cellsPerRow;
+    return isPassage(cellRow * 2 + 1, (cell - cellRow * cellsPerRow) * 2 + 1);
+  }
+
+  /** Opens the maze cell (packed {@code cellRow * cellsPerRow + cellCol}). */
+  default void openCell(int cell) {
+    int cellsPerRow = getCellsPerRow();
+    int cellRow = cell / cellsPerRow;
+    setPassage(cellRow * 2 + 1, (cell - cellRow * cellsPerRow) * 2 + 1);
+  }
+
+  /**
+   * Opens two orthogonally adjacent maze cells and the wall tile between them.
+   *
+   * @param cellA packed index of the first cell
+   * @param cellB packed index of a neighbouring cell
+   */
+  default void openBetween(int cellA, int cellB) {
+    int cellsPerRow = getCellsPerRow();
+    int rowA = (cellA / cellsPerRow) * 2 + 1;
+    int colA = (cellA % cellsPerRow) * 2 + 1;
+    int rowB = (cellB / cellsPerRow) * 2 + 1;
+    int colB = (cellB % cellsPerRow) * 2 + 1;
+    setPassage(rowA, colA);
+    setPassage((rowA + rowB) / 2, (colA + colB) / 2);
+    setPassage(rowB, colB);
+  }
+
+  @Override
+  default void acceptRow(int row, long[] passages) {
+    setPassageRow(row, passages);
+  }
+}
@@ -48,6 +48,7 @@ public class MenuManager {
     String playLabel =
         game.hasProgress() ? Messages.get("button.continue") : Messages.get("button.play");
     menuPanel.addButton(playLabel, Messages.get("hint.space"), game::startLevel);
+    menuPanel.addButton(Messages.get("button.endless"), "", game::startEndless);
     menuPanel.addButton(Messages.get("button.level_selection"), "", this::showLevelSelection);
     menuPanel.addButton(Messages.get("button.collection"), "", this::showSkins);
     menuPanel.addButton(Messages.get("button.settings"), "", this::showSettings);
@@ -0,0 +1,245 @@
+package mazegame;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Maze storage outside the Java heap for boards far larger than a {@link MazeGrid} can hold, such
+ * as 50,000 × 50,000 tiles. Each tile takes 2 bits ({@link MazeCache#WALL}, {@link
+ * MazeCache#PASSAGE}, {@link MazeCache#EXIT}), four tiles per byte, low bits first, in the same
+ * order as a {@link MazeCache} body. Bytes live in fixed-size direct or memory-mapped {@link
+ * ByteBuffer} segments, so the heap cost is a few objects whatever the board size and, when mapped,
+ * the OS page cache decides what stays resident.
+ *
+ * <p>Wall masks and grass are derived on read rather than stored; grass is hashed from the board's
+ * seed exactly as {@link RecursiveBacktracker#paintGrass(MazeGrid)} does, so a board and an on-heap
+ * grid built from the same seed show the same grass. Fill a board by subscribing it to a {@link
+ * StreamingEllerGenerator}, which needs only O(width) heap itself, or carve it with any sequential
+ * {@link MazeGenerator}, whose own working arrays then bound the size. Not thread-safe. The
+ * renderer still plays {@link MazeGrid} levels only, since keys and the bone are stored there.
+ */
+public class OffHeapMazeGrid implements MazeStorage, Closeable {
+
+  /** Bytes per backing segment; a single buffer cannot exceed 2 GB. */
+  static final int DEFAULT_SEGMENT_BYTES = 1 << 30;
+
+  private final int rowColAmount;
+  private final long seed;
+  private final int segmentShift;
+  private final int segmentMask;
+  private final ByteBuffer[] segments;
+  private final FileChannel channel;
+  private int exitRow = -1;
+  private int exitCol = -1;
+
+  // True for a reopened file until its existing exit has been looked up
+  private boolean exitUnknown;
+
+  private OffHeapMazeGrid(
+      int rowColAmount, long seed, int segmentBytes, ByteBuffer[] segments, FileChannel channel) {
+    this.rowColAmount = rowColAmount;
+    this.seed = seed;
+    this.segmentShift = Integer.numberOfTrailingZeros(segmentBytes);
+    this.segmentMask = segmentBytes - 1;
+    this.segments = segments;
+    this.channel = channel;
+  }
+
+  /**
+   * Allocates an all-walls board in direct memory.
+   *
+   * @param rowColAmount number of rows and columns
+   * @param seed seed the grass variants are hashed from
+   * @return the board
+   */
+  public static OffHeapMazeGrid allocate(int rowColAmount, long seed) {
+    return allocate(rowColAmount, seed, DEFAULT_SEGMENT_BYTES);
+  }
+
+  static OffHeapMazeGrid allocate(int rowColAmount, long seed, int segmentBytes) {
+    long bytes = byteCount(rowColAmount);
+    ByteBuffer[] segments = new ByteBuffer[segmentCount(bytes, segmentBytes)];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = ByteBuffer.allocateDirect(segmentLength(bytes, segmentBytes, i));
+    }
+    return new OffHeapMazeGrid(rowColAmount, seed, segmentBytes, segments, null);
+  }
+
+  /**
+   * Maps a board onto a file, creating or extending it as needed. A new file reads as all walls; an
+   * existing one keeps its tiles, so a board written earlier can be reopened. The old exit of a
+   * reopened board is found by scanning the tiles the first time {@link #setExit(int, int)} moves
+   * it.
+   *
+   * @param file the backing file
+   * @param rowColAmount number of rows and columns
+   * @param seed seed the grass variants are hashed from
+   * @return the board; {@link #close()} flushes it to disk
+   * @throws UncheckedIOException if the file cannot be opened or mapped
+   */
+  public static OffHeapMazeGrid map(File file, int rowColAmount, long seed) {
+    return map(file, rowColAmount, seed, DEFAULT_SEGMENT_BYTES);
+  }
+
+  static OffHeapMazeGrid map(File file, int rowColAmount, long seed, int segmentBytes) {
+    long bytes = byteCount(rowColAmount);
+    boolean existing = file.length() > 0;
+    FileChannel channel = null;
+    try {
+      channel = new RandomAccessFile(file, "rw").getChannel();
+      ByteBuffer[] segments = new ByteBuffer[segmentCount(bytes, segmentBytes)];
+      for (int i = 0; i < segments.length; i++) {
+        segments[i] =
+            channel.map(
+                FileChannel.MapMode.READ_WRITE,
+                (long) i * segmentBytes,
+                segmentLength(bytes, segmentBytes, i));
+      }
+      OffHeapMazeGrid board =
+          new OffHeapMazeGrid(rowColAmount, seed, segmentBytes, segments, channel);
+      board.exitUnknown = existing;
+      return board;
+    } catch (IOException e) {
+      closeQuietly(channel);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Returns the number of bytes a board of this size occupies (2 bits per tile). */
+  public static long byteCount(int rowColAmount) {
+    return ((long) rowColAmount * rowColAmount + 3) >>> 2;
+  }
+
+  @Override
+  public int getRowColAmount() {
+    return rowColAmount;
+  }
+
+  @Override
+  public boolean isPassage(int row, int col) {
+    return get(row, col) != MazeCache.WALL;
+  }
+
+  @Override
+  public void setPassage(int row, int col) {
+    if (get(row, col) == MazeCache.WALL) {
+      set(row, col, MazeCache.PASSAGE);
+    }
+  }
+
+  @Override
+  public void setPassageRow(int row, long[] words) {
+    for (int w = 0; w < words.length; w++) {
+      long word = words[w];
+      while (word != 0) {
+        int col = (w << 6) + Long.numberOfTrailingZeros(word);
+        word &= word - 1;
+        if (col < rowColAmount) {
+          setPassage(row, col);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean isExit(int row, int col) {
+    return get(row, col) == MazeCache.EXIT;
+  }
+
+  @Override
+  public void setExit(int row, int col) {
+    if (exitUnknown) {
+      findExit();
+    }
+    if (exitRow >= 0) {
+      set(exitRow, exitCol, MazeCache.PASSAGE);
+    }
+    set(row, col, MazeCache.EXIT);
+    exitRow = row;
+    exitCol = col;
+  }
+
+  /** Returns the grass variant hashed from the seed and tile, so nothing is stored per tile. */
+  @Override
+  public int getGrassVariant(int row, int col) {
+    return RecursiveBacktracker.grassVariant(seed, (long) row * rowColAmount + col);
+  }
+
+  /** Writes mapped tiles back to the file and releases it; a no-op for direct memory. */
+  @Override
+  public void close() throws IOException {
+    if (channel == null) {
+      return;
+    }
+    for (ByteBuffer segment : segments) {
+      ((MappedByteBuffer) segment).force();
+    }
+    channel.close();
+  }
+
+  /** Records the first exit tile stored in the buffers, if any. */
+  private void findExit() {
+    exitUnknown = false;
+    long tiles = (long) rowColAmount * rowColAmount;
+    long index = 0;
+    for (ByteBuffer segment : segments) {
+      for (int offset = 0; offset < segment.capacity(); offset++, index++) {
+        int b = segment.get(offset);
+        // EXIT is 0b10: the high bit of a pair set and its low bit clear
+        int exits = b & 0xAA & ~(b << 1);
+        if (exits != 0) {
+          long tile = (index << 2) + (Integer.numberOfTrailingZeros(exits) >>> 1);
+          if (tile < tiles) {
+            exitRow = (int) (tile / rowColAmount);
+            exitCol = (int) (tile % rowColAmount);
+          }
+          return;
+        }
+      }
+    }
+  }
+
+  private int get(int row, int col) {
+    long tile = (long) row * rowColAmount + col;
+    long index = tile >>> 2;
+    ByteBuffer segment = segments[(int) (index >>> segmentShift)];
+    return (segment.get((int) (index & segmentMask)) >>> (((int) tile & 3) << 1)) & 3;
+  }
+
+  private void set(int row, int col, int value) {
+    long tile = (long) row * rowColAmount + col;
+    long index = tile >>> 2;
+    ByteBuffer segment = segments[(int) (index >>> segmentShift)];
+    int offset = (int) (index & segmentMask);
+    int shift = ((int) tile & 3) << 1;
+    segment.put(offset, (byte) ((segment.get(offset) & ~(3 << shift)) | (value << shift)));
+  }
+
+  private static int segmentCount(long bytes, int segmentBytes) {
+    if (Integer.bitCount(segmentBytes) != 1) {
+      throw new IllegalArgumentException("Segment size must be a power of two: " + segmentBytes);
+    }
+    return (int) ((bytes + segmentBytes - 1) / segmentBytes);
+  }
+
+  private static int segmentLength(long bytes, int segmentBytes, int index) {
+    return (int) Math.min(segmentBytes, bytes - (long) index * segmentBytes);
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException ignored) {
+      // Already failing; keep the original exception
+    }
+  }
+}
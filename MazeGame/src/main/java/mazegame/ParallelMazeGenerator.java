@@ -0,0 +1,180 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Region-partitioned parallel generator. The cell grid is bisected into rectangles until each holds
+ * at most {@code leafCells} cells; every leaf is carved independently as a backtracker confined to
+ * its rectangle, and each bisection is then closed with one randomly placed opening on the split
+ * line. Two spanning trees joined by a single edge form a spanning tree, so the result is still a
+ * perfect maze.
+ *
+ * <p>Threads never write to the same grid word: row splits touch different bitset rows, and column
+ * splits fall on multiples of 32 cells (64 tiles), so the wall tile on the split line is the only
+ * tile shared with the neighbour's word and it is opened by the parent after both halves finish.
+ * That argument holds for the bitsets of a {@link MazeGrid} only, so other storage is rejected.
+ *
+ * <p>Each child draws its {@link SplittableRandom} with {@link SplittableRandom#split()} before any
+ * task is forked, so the maze depends only on the seed, never on the pool size or scheduling. The
+ * split seams are visible as long walls with a single door; use this for very large grids where
+ * generation time matters more than texture.
+ */
+public class ParallelMazeGenerator implements MazeGenerator {
+
+  /** Default maximum number of cells carved sequentially by one task. */
+  public static final int DEFAULT_LEAF_CELLS = 1 << 14;
+
+  /** Column splits are aligned to this many cells so halves never share a {@code long} word. */
+  private static final int COLUMN_ALIGN = 32;
+
+  private final ForkJoinPool pool;
+  private final int leafCells;
+
+  /** Creates a generator that runs on the common pool. */
+  public ParallelMazeGenerator() {
+    this(ForkJoinPool.commonPool(), DEFAULT_LEAF_CELLS);
+  }
+
+  /**
+   * Creates a generator on a specific pool.
+   *
+   * @param pool the pool the region tasks run on
+   * @param leafCells maximum cells per sequentially carved region
+   */
+  public ParallelMazeGenerator(ForkJoinPool pool, int leafCells) {
+    this.pool = pool;
+    this.leafCells = leafCells;
+  }
+
+  @Override
+  public String getName() {
+    return "parallel";
+  }
+
+  @Override
+  public int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand) {
+    if (!(maze instanceof MazeGrid)) {
+      throw new IllegalArgumentException("Parallel carving needs a MazeGrid");
+    }
+    int cellsPerRow = maze.getCellsPerRow();
+    return pool.invoke(new RegionTask((MazeGrid) maze, 0, 0, cellsPerRow, cellsPerRow, rand));
+  }
+
+  /** Carves one rectangle of cells, splitting it further while it is larger than a leaf. */
+  private final class RegionTask extends RecursiveTask<Integer> {
+
+    private final MazeGrid maze;
+    private final int cellRow;
+    private final int cellCol;
+    private final int rows;
+    private final int cols;
+    private final SplittableRandom rand;
+
+    RegionTask(MazeGrid maze, int cellRow, int cellCol, int rows, int cols, SplittableRandom rand) {
+      this.maze = maze;
+      this.cellRow = cellRow;
+      this.cellCol = cellCol;
+      this.rows = rows;
+      this.cols = cols;
+      this.rand = rand;
+    }
+
+    @Override
+    protected Integer compute() {
+      if (rows * cols <= leafCells) {
+        return carveRegion(maze, cellRow, cellCol, rows, cols, rand);
+      }
+
+      // Split the longer side; columns only where the boundary is word aligned
+      int colSplit = ((cols / 2) / COLUMN_ALIGN) * COLUMN_ALIGN;
+      boolean splitColumns = cols >= rows && colSplit > 0;
+      if (!splitColumns && rows < 2) {
+        return carveRegion(maze, cellRow, cellCol, rows, cols, rand);
+      }
+
+      SplittableRandom firstRand = rand.split();
+      SplittableRandom secondRand = rand.split();
+      RegionTask first;
+      RegionTask second;
+      if (splitColumns) {
+        first = new RegionTask(maze, cellRow, cellCol, rows, colSplit, firstRand);
+        second =
+            new RegionTask(maze, cellRow, cellCol + colSplit, rows, cols - colSplit, secondRand);
+      } else {
+        int rowSplit = rows / 2;
+        first = new RegionTask(maze, cellRow, cellCol, rowSplit, cols, firstRand);
+        second =
+            new RegionTask(maze, cellRow + rowSplit, cellCol, rows - rowSplit, cols, secondRand);
+      }
+
+      second.fork();
+      int opened = first.compute() + second.join();
+
+      // Join the two spanning trees through one opening on the split line
+      if (splitColumns) {
+        int row = (cellRow + rand.nextInt(rows)) * 2 + 1;
+        maze.setPassage(row, (cellCol + colSplit) * 2);
+      } else {
+        int col = (cellCol + rand.nextInt(cols)) * 2 + 1;
+        maze.setPassage((cellRow + rows / 2) * 2, col);
+      }
+      return opened + 1;
+    }
+  }
+
+  /**
+   * Backtracker confined to a rectangle of cells. Same algorithm as {@link
+   * RecursiveBacktracker#carve(MazeStorage, int, int, SplittableRandom)}, but neighbours outside
+   * the rectangle are never considered and the walk starts at a random cell inside it.
+   */
+  private static int carveRegion(
+      MazeGrid maze, int cellRow, int cellCol, int rows, int cols, SplittableRandom rand) {
+    int[] stack = new int[rows * cols];
+    int[] candidates = new int[4];
+    int top = 0;
+
+    // Local cell index = localRow * cols + localCol
+    int start = rand.nextInt(rows * cols);
+    maze.setPassage((cellRow + start / cols) * 2 + 1, (cellCol + start % cols) * 2 + 1);
+    stack[top++] = start;
+    int opened = 1;
+
+    while (top > 0) {
+      int cell = stack[top - 1];
+      int localRow = cell / cols;
+      int localCol = cell - localRow * cols;
+      int row = (cellRow + localRow) * 2 + 1;
+      int col = (cellCol + localCol) * 2 + 1;
+
+      int count = 0;
+      if (localRow > 0 && maze.isWall(row - 2, col)) {
+        candidates[count++] = cell - cols;
+      }
+      if (localCol < cols - 1 && maze.isWall(row, col + 2)) {
+        candidates[count++] = cell + 1;
+      }
+      if (localRow < rows - 1 && maze.isWall(row + 2, col)) {
+        candidates[count++] = cell + cols;
+      }
+      if (localCol > 0 && maze.isWall(row, col - 2)) {
+        candidates[count++] = cell - 1;
+      }
+
+      if (count == 0) {
+        top--;
+        continue;
+      }
+
+      int next = candidates[count == 1 ? 0 : rand.nextInt(count)];
+      int nextRow = (cellRow + next / cols) * 2 + 1;
+      int nextCol = (cellCol + next % cols) * 2 + 1;
+      maze.setPassage((row + nextRow) / 2, (col + nextCol) / 2);
+      maze.setPassage(nextRow, nextCol);
+      opened += 2;
+      stack[top++] = next;
+    }
+    return opened;
+  }
+}
@@ -2,11 +2,22 @@ package mazegame;
 
 /**
  * Represents the player character in the maze with position, size, and directional movement state.
+ *
+ * <p>The position is kept in 16.16 fixed point (pixels with 16 fraction bits), so delta-timed
+ * movement can advance by less than a pixel per update without drift. It is stored in a {@code
+ * long} because endless mode can take the player past the 32,767 pixels a 32-bit 16.16 value holds.
+ * {@link #getX()} and {@link #getY()} return whole pixels.
  */
 public class Player {
 
-  private int x;
-  private int y;
+  /** Fraction bits in a fixed-point coordinate. */
+  public static final int FRACTION_BITS = 16;
+
+  /** One pixel in fixed point. */
+  public static final long ONE = 1L << FRACTION_BITS;
+
+  private long x;
+  private long y;
   private final int size;
   private boolean moveN;
   private boolean moveE;
@@ -21,19 +32,49 @@ public class Player {
    * @param size the tile size (used for collision detection)
    */
   public Player(int x, int y, int size) {
-    this.x = x;
-    this.y = y;
+    this.x = toFixed(x);
+    this.y = toFixed(y);
     this.size = size;
   }
 
   public void setX(int x) {
-    this.x = x;
+    this.x = toFixed(x);
   }
 
   public void setY(int y) {
+    this.y = toFixed(y);
+  }
+
+  /** Returns the x-coordinate in 16.16 fixed point. */
+  public long getFixedX() {
+    return x;
+  }
+
+  /** Returns the y-coordinate in 16.16 fixed point. */
+  public long getFixedY() {
+    return y;
+  }
+
+  /** Sets the x-coordinate in 16.16 fixed point. */
+  public void setFixedX(long x) {
+    this.x = x;
+  }
+
+  /** Sets the y-coordinate in 16.16 fixed point. */
+  public void setFixedY(long y) {
     this.y = y;
   }
 
+  /** Converts whole pixels to 16.16 fixed point. */
+  public static long toFixed(int pixels) {
+    return (long) pixels << FRACTION_BITS;
+  }
+
+  /** Converts 16.16 fixed point to whole pixels, rounding towards negative infinity. */
+  public static int toPixels(long fixed) {
+    return (int) (fixed >> FRACTION_BITS);
+  }
+
   public boolean getMoveN() {
     return moveN;
   }
@@ -67,16 +108,16 @@ public class Player {
   }
 
   public void setXY(int x, int y) {
-    this.x = x;
-    this.y = y;
+    this.x = toFixed(x);
+    this.y = toFixed(y);
   }
 
   public int getX() {
-    return x;
+    return toPixels(x);
   }
 
   public int getY() {
-    return y;
+    return toPixels(y);
   }
 
   public int getSize() {
@@ -0,0 +1,83 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+
+/**
+ * Randomised Prim's algorithm. Grows the maze from the start cell by repeatedly picking a random
+ * frontier cell and joining it to a random neighbour already in the maze. The frontier is an {@code
+ * int[]} with swap-removal, so each step is constant time. Produces a radial texture with many
+ * short branches.
+ */
+public class PrimGenerator implements MazeGenerator {
+
+  @Override
+  public String getName() {
+    return "prim";
+  }
+
+  @Override
+  public int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand) {
+    int cellsPerRow = maze.getCellsPerRow();
+    int cells = cellsPerRow * cellsPerRow;
+    boolean[] queued = new boolean[cells];
+    int[] frontier = new int[cells];
+    int[] inMaze = new int[4];
+    int size = 0;
+
+    int start = (startRow / 2) * cellsPerRow + (startCol / 2);
+    maze.openCell(start);
+    queued[start] = true;
+    int opened = 1;
+    size = addFrontier(maze, start, cellsPerRow, queued, frontier, size);
+
+    while (size > 0) {
+      int index = rand.nextInt(size);
+      int cell = frontier[index];
+      frontier[index] = frontier[--size];
+
+      int cellRow = cell / cellsPerRow;
+      int cellCol = cell - cellRow * cellsPerRow;
+      int count = 0;
+      if (cellRow > 0 && maze.isCellOpen(cell - cellsPerRow)) {
+        inMaze[count++] = cell - cellsPerRow;
+      }
+      if (cellCol < cellsPerRow - 1 && maze.isCellOpen(cell + 1)) {
+        inMaze[count++] = cell + 1;
+      }
+      if (cellRow < cellsPerRow - 1 && maze.isCellOpen(cell + cellsPerRow)) {
+        inMaze[count++] = cell + cellsPerRow;
+      }
+      if (cellCol > 0 && maze.isCellOpen(cell - 1)) {
+        inMaze[count++] = cell - 1;
+      }
+
+      maze.openBetween(cell, inMaze[count == 1 ? 0 : rand.nextInt(count)]);
+      opened += 2;
+      size = addFrontier(maze, cell, cellsPerRow, queued, frontier, size);
+    }
+    return opened;
+  }
+
+  private static int addFrontier(
+      MazeStorage maze, int cell, int cellsPerRow, boolean[] queued, int[] frontier, int size) {
+    int cellRow = cell / cellsPerRow;
+    int cellCol = cell - cellRow * cellsPerRow;
+    if (cellRow > 0 && !queued[cell - cellsPerRow]) {
+      queued[cell - cellsPerRow] = true;
+      frontier[size++] = cell - cellsPerRow;
+    }
+    if (cellCol < cellsPerRow - 1 && !queued[cell + 1]) {
+      queued[cell + 1] = true;
+      frontier[size++] = cell + 1;
+    }
+    if (cellRow < cellsPerRow - 1 && !queued[cell + cellsPerRow]) {
+      queued[cell + cellsPerRow] = true;
+      frontier[size++] = cell + cellsPerRow;
+    }
+    if (cellCol > 0 && !queued[cell - 1]) {
+      queued[cell - 1] = true;
+      frontier[size++] = cell - 1;
+    }
+    return size;
+  }
+}
@@ -1,105 +1,244 @@
 package mazegame;
 
 import java.util.ArrayList;
-import java.util.Random;
-import java.util.Stack;
+import java.util.SplittableRandom;
 
 /**
  * Generates a maze using the recursive backtracking algorithm. Extends {@link Tilemap} to build on
  * an initial all-walls grid, then carves passages, places an exit at the furthest reachable point,
- * and distributes key items.
+ * and distributes key items. The carving step is pluggable: pass any {@link MazeGenerator} to use a
+ * different algorithm with the same exit, key and bone placement. All work happens on a compact
+ * {@link MazeGrid}; {@link #startGeneration()} materialises {@link Tile} views for callers that
+ * still want a tile array.
+ *
+ * <p>Every random decision (start cell, carving order, keys, bone) is drawn from a single {@link
+ * SplittableRandom} seeded at construction, and grass is hashed from the same seed, so a given seed
+ * and size always reproduce the same level.
  */
 public class RecursiveBacktracker extends Tilemap {
 
-  private final Tile[][] updateGrid;
-  private Tile[][] exitTileSet;
-  private Stack<Tile> visitedTiles = new Stack<>();
+  private final MazeGrid grid;
   private final int rowColAmount;
-  private int maxSE;
-  private final int minNW;
-  private final int[] directions = {1, 2, 3, 4}; // N, E, S, W
+  private final long seed;
+  private final SplittableRandom rand;
+  private final MazeGenerator generator;
   private int startingX;
   private int startingY;
-  private int exitPathLength;
-  private int biggestStack = 1;
-  private TileExit furthestReached;
-  private final int tileWH;
-  private final ArrayList<TilePassage> keyTiles = new ArrayList<>();
+  private int exitX;
+  private int exitY;
+  private int passageCount;
+  private int[] keyCells = new int[0];
+  private int keySpacing;
 
+  /**
+   * Creates a generator with a randomly chosen seed.
+   *
+   * @param tileWH pixel width/height of each tile
+   * @param tileBorder border inset
+   * @param rowColAmount the odd grid size
+   */
   public RecursiveBacktracker(int tileWH, int tileBorder, int rowColAmount) {
+    this(tileWH, tileBorder, rowColAmount, new SplittableRandom().nextLong());
+  }
+
+  /**
+   * Creates a deterministic generator.
+   *
+   * @param tileWH pixel width/height of each tile
+   * @param tileBorder border inset
+   * @param rowColAmount the odd grid size
+   * @param seed seed for every random decision in the pipeline
+   */
+  public RecursiveBacktracker(int tileWH, int tileBorder, int rowColAmount, long seed) {
+    this(tileWH, tileBorder, rowColAmount, seed, MazeGenerators.byName(MazeGenerators.DEFAULT));
+  }
+
+  /**
+   * Creates a deterministic generator that carves with the given algorithm.
+   *
+   * @param tileWH pixel width/height of each tile
+   * @param tileBorder border inset
+   * @param rowColAmount the odd grid size
+   * @param seed seed for every random decision in the pipeline
+   * @param generator the carving algorithm
+   */
+  public RecursiveBacktracker(
+      int tileWH, int tileBorder, int rowColAmount, long seed, MazeGenerator generator) {
     super(tileWH, tileBorder, rowColAmount);
-    this.minNW = 1;
     this.rowColAmount = rowColAmount;
-    this.tileWH = tileWH;
-    this.exitPathLength = 1;
-    this.updateGrid = super.getTileArr();
-    this.maxSE = rowColAmount - 2;
+    this.grid = new MazeGrid(rowColAmount);
+    this.seed = seed;
+    this.rand = new SplittableRandom(seed);
+    this.generator = generator;
   }
 
   /**
    * Runs the full maze generation pipeline: carve passages, place exit, distribute keys, and assign
    * wall sprite IDs.
    *
-   * @return the completed tile grid
+   * @return the completed maze grid
    */
-  public Tile[][] startGeneration() {
+  public MazeGrid generate() {
     startingX = getRandomStartingCoord();
     startingY = getRandomStartingCoord();
-    updateGrid[startingY][startingX] =
-        new TilePassage(
-            tileWH,
-            updateGrid[startingY][startingX].getMinX(),
-            updateGrid[startingY][startingX].getMinY());
-
-    visitedTiles.push(new TilePassage(0, startingX, startingY));
-    Tile[][] tiles = setWinningTile(carvePassage(startingX, startingY));
-    tiles = addKeys(tiles);
-    tiles = addWallIds(tiles);
-    return tiles;
+
+    carvePassage(startingX, startingY);
+    setWinningTile(grid);
+    addKeys(grid);
+    addBone(grid);
+    addWallIds(grid);
+    paintGrass(grid);
+    return grid;
   }
 
   /**
-   * Distributes key items randomly across passage tiles.
+   * Runs {@link #generate()} and returns the result as a tile array of views.
    *
-   * @param allTiles the tile grid
+   * @return the completed tile grid
+   */
+  public Tile[][] startGeneration() {
+    return getTileArr(generate());
+  }
+
+  /** Returns the generated maze grid. */
+  public MazeGrid getGrid() {
+    return grid;
+  }
+
+  /** Returns the seed this generator was created with. */
+  public long getSeed() {
+    return seed;
+  }
+
+  /** Returns the carving algorithm. */
+  public MazeGenerator getGenerator() {
+    return generator;
+  }
+
+  /**
+   * Requires keys to be at least {@code minDistance} steps (along passages) from the start and from
+   * each other. Takes effect on the next {@link #addKeys(MazeGrid)}; 0 (the default) disables
+   * spacing.
+   *
+   * @param minDistance minimum path distance in tiles
+   */
+  public void setKeySpacing(int minDistance) {
+    this.keySpacing = minDistance;
+  }
+
+  /**
+   * Distributes key items randomly across passage tiles (never the exit). Candidates are drawn once
+   * each with a {@link CellSampler}, so placement is linear in the passage count however many keys
+   * are needed. With {@link #setKeySpacing(int)} set, a shared {@link DistanceField} rejects
+   * candidates too close to the start or an earlier key; if the maze has too little room for the
+   * spacing, the remaining keys are taken from the rejected candidates in draw order.
+   *
+   * @param maze the carved grid
    * @return the grid with keys placed
    */
-  public Tile[][] addKeys(Tile[][] allTiles) {
+  public MazeGrid addKeys(MazeGrid maze) {
     int keysRequired = (rowColAmount / 10) * 4;
-    int keysAdded = 0;
-    ArrayList<TilePassage> paths = new ArrayList<>();
+    int[] paths = new int[passageCount];
+    int pathCount = collectCells(maze, paths, false);
+    CellSampler sampler = new CellSampler(paths, pathCount);
+
+    DistanceField spacing = null;
+    int[] deferred = null;
+    int deferredCount = 0;
+    if (keySpacing > 0) {
+      spacing = new DistanceField(maze, keySpacing);
+      spacing.addSource(startingY, startingX);
+      deferred = new int[pathCount];
+    }
 
-    for (int i = 1; i < allTiles.length - 1; i++) {
-      for (int j = 1; j < allTiles.length - 1; j++) {
-        if (allTiles[i][j] instanceof TilePassage) {
-          paths.add((TilePassage) allTiles[i][j]);
+    keyCells = new int[Math.min(keysRequired, pathCount)];
+    int keysAdded = 0;
+    while (keysAdded < keyCells.length && sampler.remaining() > 0) {
+      int path = sampler.draw(rand);
+      int row = path / rowColAmount;
+      int col = path % rowColAmount;
+      if (spacing != null) {
+        if (!spacing.isClear(row, col)) {
+          deferred[deferredCount++] = path;
+          continue;
         }
+        spacing.addSource(row, col);
       }
+      maze.setKey(row, col, true);
+      keyCells[keysAdded++] = path;
+    }
+    for (int i = 0; keysAdded < keyCells.length && i < deferredCount; i++) {
+      maze.setKey(deferred[i] / rowColAmount, deferred[i] % rowColAmount, true);
+      keyCells[keysAdded++] = deferred[i];
     }
 
-    while (keysAdded < keysRequired) {
-      int rndPath = new Random().nextInt(paths.size());
-      TilePassage path = paths.get(rndPath);
+    return maze;
+  }
 
-      if (!path.hasItem()) {
-        path.setItem(true);
-        keyTiles.add(path);
-        keysAdded++;
-      }
+  /**
+   * Places the bone collectible on a random passage that is not the start, the exit, or a key.
+   *
+   * @param maze the grid with keys placed
+   * @return the grid with the bone placed
+   */
+  public MazeGrid addBone(MazeGrid maze) {
+    int[] candidates = new int[passageCount];
+    int count = collectCells(maze, candidates, true);
+    if (count > 0) {
+      int bone = new CellSampler(candidates, count).draw(rand);
+      maze.setBone(bone / rowColAmount, bone % rowColAmount);
     }
+    return maze;
+  }
 
-    return allTiles;
+  /**
+   * Collects interior passage cells other than the exit, packed as {@code row * rowColAmount +
+   * col}.
+   *
+   * @param maze the carved grid
+   * @param out destination, at least {@link #getPassageCount()} long
+   * @param freeOnly also skip the start cell and cells holding keys
+   * @return the number of cells written
+   */
+  private int collectCells(MazeGrid maze, int[] out, boolean freeOnly) {
+    int count = 0;
+    for (int r = 1; r < rowColAmount - 1; r++) {
+      for (int c = 1; c < rowColAmount - 1; c++) {
+        if (!maze.isPassage(r, c) || maze.isExit(r, c)) {
+          continue;
+        }
+        if (freeOnly && ((r == startingY && c == startingX) || maze.hasKey(r, c))) {
+          continue;
+        }
+        out[count++] = r * rowColAmount + c;
+      }
+    }
+    return count;
   }
 
   /**
-   * Returns the list of passage tiles that contain keys.
+   * Returns the passage tiles that contain keys, as fresh {@link Tile} views. Game code works with
+   * {@link #getKeyCells()} instead, so no tile objects are kept per key.
    *
    * @return key tile coordinates
    */
   public ArrayList<TilePassage> getKeyCoords() {
+    ArrayList<TilePassage> keyTiles = new ArrayList<>(keyCells.length);
+    for (int key : keyCells) {
+      keyTiles.add((TilePassage) getTile(grid, key / rowColAmount, key % rowColAmount));
+    }
     return keyTiles;
   }
 
+  /**
+   * Returns the key cells in placement order, packed as {@code row * rowColAmount + col}.
+   *
+   * @return packed key cell indices
+   */
+  public int[] getKeyCells() {
+    return keyCells;
+  }
+
   /**
    * Returns a random odd coordinate within the valid maze range. Maze cells must be at odd indices
    * for the backtracking algorithm.
@@ -110,7 +249,7 @@ public class RecursiveBacktracker extends Tilemap {
 
     /* Ex. Maze size 0-11 has valid cells 1-9 (and odd numbers only) */
     int endRange = rowColAmount - 2;
-    int randomCoord = new Random().nextInt((endRange) + 1); // Ex. [1-9]
+    int randomCoord = rand.nextInt((endRange) + 1); // Ex. [1-9]
     if (randomCoord % 2 == 0) {
       randomCoord += 1;
     }
@@ -126,330 +265,256 @@ public class RecursiveBacktracker extends Tilemap {
     return startingY;
   }
 
+  /** Returns the exit's x-coordinate (column). */
+  public int getExitX() {
+    return exitX;
+  }
+
+  /** Returns the exit's y-coordinate (row). */
+  public int getExitY() {
+    return exitY;
+  }
+
   /**
-   * Recursively carves passages through the wall grid. For each direction (shuffled), attempts to
-   * carve a two-cell corridor.
+   * Returns the number of passage tiles in the generated grid (the exit is not counted). Maintained
+   * incrementally while carving, so unlike {@link Tilemap#getPassageCount(Tile[][])} it does not
+   * rescan the grid.
+   */
+  public int getPassageCount() {
+    return passageCount;
+  }
+
+  /**
+   * Carves passages through the wall grid starting from the given cell with the configured {@link
+   * MazeGenerator}. The default backtracker uses the iterative engine in {@link #carve(MazeStorage,
+   * int, int, SplittableRandom)}, so grid size is bounded by heap rather than thread stack depth.
    *
-   * @param x current x-coordinate
-   * @param y current y-coordinate
+   * @param x starting x-coordinate (column)
+   * @param y starting y-coordinate (row)
    * @return the updated grid
    */
-  public Tile[][] carvePassage(int x, int y) {
-    shuffleDirection(directions);
-    for (int i = 0; i < directions.length; i++) {
-      isCellValid(x, y, directions[i]);
-      // Check junctions here?
-    }
-
-    return updateGrid;
+  public MazeGrid carvePassage(int x, int y) {
+    passageCount = generator.carve(grid, y, x, rand);
+    return grid;
   }
 
-  public Tile[][] setWinningTile(Tile[][] tileSet) {
-    TilePassage tile = new TilePassage(0, 0, 0);
-    visitedTiles.clear();
-    if (tileSet[startingY][startingX] instanceof TilePassage) {
-      tile = (TilePassage) tileSet[startingY][startingX];
-    }
-    tile.setRowNo(startingY);
-    tile.setColNo(startingX);
-
-    visitedTiles.push(tile);
-    exitTileSet = tileSet;
-    // X+2 == South
-    // X-2 == North
-    // Y-2 == West
-    // Y+2 == East
-
-    TilePassage tp = (TilePassage) exitTileSet[startingY][startingX];
-    tp.setCheckedExitPath(true);
-    exitTileSet[startingY][startingX] = tp;
-
-    setExitPath(startingY, startingX);
-    return exitTileSet;
+  /**
+   * Carves a fresh grid with the iterative engine.
+   *
+   * @param rowColAmount the odd grid size
+   * @param startRow odd starting row
+   * @param startCol odd starting column
+   * @param rand source of randomness for neighbour selection
+   * @return the carved grid
+   */
+  public static MazeGrid carve(
+      int rowColAmount, int startRow, int startCol, SplittableRandom rand) {
+    MazeGrid maze = new MazeGrid(rowColAmount);
+    carve(maze, startRow, startCol, rand);
+    return maze;
   }
 
-  public boolean setExitPath(int cX, int cY) {
-    long pathCount = super.getPassageCount(exitTileSet);
+  /**
+   * Iterative recursive-backtracker carving engine. Maze cells sit at odd row/column indices; the
+   * depth-first walk is driven by a primitive {@code int} stack of packed cell indices ({@code
+   * cellRow * cellsPerRow + cellCol}) instead of the call stack, so very large grids cannot
+   * overflow the thread stack. Each cell is pushed once and popped once, giving time linear in the
+   * cell count. A cell counts as visited once its grid bit is open.
+   *
+   * @param maze an all-walls grid with an odd size
+   * @param startRow odd starting row
+   * @param startCol odd starting column
+   * @param rand source of randomness for neighbour selection
+   * @return the number of passage tiles opened
+   */
+  public static int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand) {
+    int cellsPerRow = (maze.getRowColAmount() - 1) / 2;
+    int[] stack = new int[cellsPerRow * cellsPerRow];
+    int[] candidates = new int[4];
+    int top = 0;
+    int opened = 1;
+
+    maze.setPassage(startRow, startCol);
+    stack[top++] = (startRow / 2) * cellsPerRow + (startCol / 2);
+
+    while (top > 0) {
+      int cell = stack[top - 1];
+      int cellRow = cell / cellsPerRow;
+      int cellCol = cell - cellRow * cellsPerRow;
+      int row = cellRow * 2 + 1;
+      int col = cellCol * 2 + 1;
+
+      // Gather unvisited neighbours (N, E, S, W) two tiles away
+      int count = 0;
+      if (cellRow > 0 && maze.isWall(row - 2, col)) {
+        candidates[count++] = cell - cellsPerRow;
+      }
+      if (cellCol < cellsPerRow - 1 && maze.isWall(row, col + 2)) {
+        candidates[count++] = cell + 1;
+      }
+      if (cellRow < cellsPerRow - 1 && maze.isWall(row + 2, col)) {
+        candidates[count++] = cell + cellsPerRow;
+      }
+      if (cellCol > 0 && maze.isWall(row, col - 2)) {
+        candidates[count++] = cell - 1;
+      }
 
-    if (visitedTiles.size() > biggestStack) {
-      biggestStack = visitedTiles.size();
+      if (count == 0) {
+        top--; // Dead end — backtrack
+        continue;
+      }
 
-      TilePassage e = (TilePassage) visitedTiles.peek();
-      furthestReached = new TileExit(e.getSize(), e.getMinX(), e.getMinY());
-      furthestReached.setRowNo(e.getRowNo());
-      furthestReached.setColNo(e.getColNo());
+      int next = candidates[count == 1 ? 0 : rand.nextInt(count)];
+      int nextRow = (next / cellsPerRow) * 2 + 1;
+      int nextCol = (next % cellsPerRow) * 2 + 1;
+      maze.setPassage((row + nextRow) / 2, (col + nextCol) / 2);
+      maze.setPassage(nextRow, nextCol);
+      opened += 2;
+      stack[top++] = next;
     }
+    return opened;
+  }
 
-    if (exitPathLength > pathCount / 2) {
-      visitedTiles.push(furthestReached);
-      exitTileSet[furthestReached.getRowNo()][furthestReached.getColNo()] = furthestReached;
-      visitedTiles.clear();
-      return true;
-    }
+  /**
+   * Marks the passage furthest (by path length) from the starting cell as the exit.
+   *
+   * @param maze the carved grid
+   * @return the grid with the exit placed
+   */
+  public MazeGrid setWinningTile(MazeGrid maze) {
+    int furthest = findFurthestCell(maze, startingY, startingX);
+    exitY = furthest / rowColAmount;
+    exitX = furthest % rowColAmount;
+    maze.setExit(exitY, exitX);
+    passageCount--;
+    return maze;
+  }
 
-    shuffleDirection(directions);
-
-    for (int i = 0; i < directions.length; i++) {
-      int direction = directions[i];
-
-      // Checks if the cell in direction[i] is a path cell.
-      if (checkPath(direction, cX, cY)) {
-        if (direction == 1) {
-          // North
-          cX = cX - 1;
-          setExitPath(cX, cY);
-          break;
-        } else if (direction == 2) {
-          // East
-          cY = cY + 1;
-          setExitPath(cX, cY);
-          break;
-        } else if (direction == 3) {
-          // South
-          cX = cX + 1;
-          setExitPath(cX, cY);
-          break;
-        } else if (direction == 4) {
-          // West
-          cY = cY - 1;
-          setExitPath(cX, cY);
-          break;
-        }
+  /**
+   * Finds the maze cell furthest from the start with a single breadth-first pass. Only odd-indexed
+   * cells are enqueued; the connecting tile between two cells is checked in the grid. The last cell
+   * dequeued is the furthest reachable one, so no distance array is needed and the pass is linear
+   * in the cell count.
+   *
+   * @param maze the carved grid
+   * @param startRow odd starting row
+   * @param startCol odd starting column
+   * @return the furthest cell as {@code row * rowColAmount + col}
+   */
+  public static int findFurthestCell(MazeGrid maze, int startRow, int startCol) {
+    int rowColAmount = maze.getRowColAmount();
+    int cellsPerRow = (rowColAmount - 1) / 2;
+    boolean[] seen = new boolean[cellsPerRow * cellsPerRow];
+    int[] queue = new int[cellsPerRow * cellsPerRow];
+    int head = 0;
+    int tail = 0;
+
+    int startCell = (startRow / 2) * cellsPerRow + (startCol / 2);
+    seen[startCell] = true;
+    queue[tail++] = startCell;
+    int last = startCell;
+
+    while (head < tail) {
+      int cell = queue[head++];
+      last = cell;
+      int cellRow = cell / cellsPerRow;
+      int cellCol = cell - cellRow * cellsPerRow;
+      int row = cellRow * 2 + 1;
+      int col = cellCol * 2 + 1;
+
+      if (cellRow > 0 && maze.isPassage(row - 1, col) && !seen[cell - cellsPerRow]) {
+        seen[cell - cellsPerRow] = true;
+        queue[tail++] = cell - cellsPerRow;
       }
-
-      if (i == directions.length - 1) {
-        Tile t;
-
-        if (visitedTiles.size() == 1) {
-          t = visitedTiles.peek();
-        } else {
-          t = visitedTiles.pop();
-        }
-
-        TilePassage tp = (TilePassage) t;
-        setExitPath(tp.getRowNo(), tp.getColNo());
+      if (cellCol < cellsPerRow - 1 && maze.isPassage(row, col + 1) && !seen[cell + 1]) {
+        seen[cell + 1] = true;
+        queue[tail++] = cell + 1;
+      }
+      if (cellRow < cellsPerRow - 1 && maze.isPassage(row + 1, col) && !seen[cell + cellsPerRow]) {
+        seen[cell + cellsPerRow] = true;
+        queue[tail++] = cell + cellsPerRow;
+      }
+      if (cellCol > 0 && maze.isPassage(row, col - 1) && !seen[cell - 1]) {
+        seen[cell - 1] = true;
+        queue[tail++] = cell - 1;
       }
     }
-    return false;
+
+    int lastRow = last / cellsPerRow;
+    return (lastRow * 2 + 1) * rowColAmount + (last - lastRow * cellsPerRow) * 2 + 1;
   }
 
-  public boolean checkPath(int dir, int cX, int cY) {
-    TilePassage t;
-    switch (dir) {
-      case 1:
-        // North -- Check tile is in a valid range and hasn't been visited already.
-        if ((cX - 1 >= minNW)) {
-          if (exitTileSet[cX - 1][cY] instanceof TilePassage) {
-            TilePassage tp = (TilePassage) exitTileSet[cX - 1][cY];
-            if (!tp.getCheckedExitPath()) {
-              tp.setCheckedExitPath(true);
-              exitTileSet[cX - 1][cY] = tp;
-              exitPathLength++;
-              t = (TilePassage) exitTileSet[cX - 1][cY];
-              t.setColNo(cY);
-              t.setRowNo(cX - 1);
-              visitedTiles.push(t);
-              return true;
-            }
-          }
-        }
-        break;
-      case 2:
-        // East
-        if (cY + 1 <= maxSE) {
-          if (exitTileSet[cX][cY + 1] instanceof TilePassage) {
-            TilePassage tp = (TilePassage) exitTileSet[cX][cY + 1];
-            if (!tp.getCheckedExitPath()) {
-              tp.setCheckedExitPath(true);
-              exitTileSet[cX][cY + 1] = tp;
-              exitPathLength++;
-              t = (TilePassage) exitTileSet[cX][cY + 1];
-              t.setColNo(cY + 1);
-              t.setRowNo(cX);
-              visitedTiles.push(t);
-              return true;
-            }
-          }
-        }
-        break;
-      case 3:
-        // South
-        if (cX + 1 <= maxSE) {
-
-          if (exitTileSet[cX + 1][cY] instanceof TilePassage) {
-            TilePassage tp = (TilePassage) exitTileSet[cX + 1][cY];
-            if (!tp.getCheckedExitPath()) {
-              tp.setCheckedExitPath(true);
-              exitTileSet[cX + 1][cY] = tp;
-              exitPathLength++;
-              t = (TilePassage) exitTileSet[cX + 1][cY];
-              t.setColNo(cY);
-              t.setRowNo(cX + 1);
-              visitedTiles.push(t);
-              return true;
-            }
-          }
-        }
-        break;
-      case 4:
-        // West
-        if (cY - 1 >= minNW) {
-          if (exitTileSet[cX][cY - 1] instanceof TilePassage) {
-            TilePassage tp = (TilePassage) exitTileSet[cX][cY - 1];
-            if (!tp.getCheckedExitPath()) {
-              tp.setCheckedExitPath(true);
-              exitTileSet[cX][cY - 1] = tp;
-              exitPathLength++;
-              t = (TilePassage) exitTileSet[cX][cY - 1];
-              t.setColNo(cY - 1);
-              t.setRowNo(cX);
-              visitedTiles.push(t);
-              return true;
-            }
-          }
-        }
-        break;
-      default:
-        break;
-    }
-    return false;
+  /**
+   * Assigns NESW neighbour bitmasks to all wall tiles for sprite selection, a row at a time with
+   * {@link MazeGrid#computeWallMasks()}.
+   *
+   * @param maze the tile grid
+   * @return the grid with wall IDs set
+   */
+  public MazeGrid addWallIds(MazeGrid maze) {
+    maze.computeWallMasks();
+    return maze;
   }
 
-  private void shuffleDirection(int[] array) {
-    int index;
-    Random rand = new Random();
-    for (int i = 0; i < array.length; i++) {
-      index = rand.nextInt(i + 1);
-      if (index != i) {
-        array[index] ^= array[i];
-        array[i] ^= array[index];
-        array[index] ^= array[i];
+  /**
+   * Assigns a grass background variant to every cell. The variant is a hash of the seed and the
+   * cell rather than a draw from the shared random stream, so a maze restored from {@link
+   * MazeCache} gets the same grass without replaying the pipeline.
+   *
+   * @param maze the tile grid
+   * @return the grid with grass variants set
+   */
+  public MazeGrid paintGrass(MazeGrid maze) {
+    int size = maze.getRowColAmount();
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        maze.setGrassVariant(i, j, grassVariant(seed, i * size + j));
       }
     }
+    return maze;
   }
 
-  public void isCellValid(int x, int y, int direction) {
-    switch (direction) {
-
-      // North
-      case 1:
-
-        // If northern cell is within maze range and is not already a passage.
-        if (!((y <= minNW) || (updateGrid[y - 2][x] instanceof TilePassage))) {
-
-          visitedTiles.push(new TilePassage(0, x, y));
-
-          updateGrid[y - 2][x] =
-              new TilePassage(
-                  tileWH, updateGrid[y - 2][x].getMinX(), updateGrid[y - 2][x].getMinY());
-
-          updateGrid[y - 1][x] =
-              new TilePassage(
-                  tileWH, updateGrid[y - 1][x].getMinX(), updateGrid[y - 1][x].getMinY());
-
-          carvePassage(x, y - 2);
-        }
-        break;
-
-      // East
-      case 2:
-        if (!((x >= maxSE) || (updateGrid[y][x + 2] instanceof TilePassage))) {
-          visitedTiles.push(new TilePassage(0, x, y));
-
-          updateGrid[y][x + 2] =
-              new TilePassage(
-                  tileWH, updateGrid[y][x + 2].getMinX(), updateGrid[y][x + 2].getMinY());
-
-          updateGrid[y][x + 1] =
-              new TilePassage(
-                  tileWH, updateGrid[y][x + 1].getMinX(), updateGrid[y][x + 1].getMinY());
-
-          carvePassage(x + 2, y);
-        }
-        break;
-
-      // South
-      case 3:
-        if (!((y >= maxSE) || (updateGrid[y + 2][x] instanceof TilePassage))) {
-          visitedTiles.push(new TilePassage(0, x, y));
-
-          updateGrid[y + 2][x] =
-              new TilePassage(
-                  tileWH, updateGrid[y + 2][x].getMinX(), updateGrid[y + 2][x].getMinY());
-
-          updateGrid[y + 1][x] =
-              new TilePassage(
-                  tileWH, updateGrid[y + 1][x].getMinX(), updateGrid[y + 1][x].getMinY());
-
-          carvePassage(x, y + 2);
-        }
-        break;
-
-      // West
-      case 4:
-        if (!((x <= minNW) || (updateGrid[y][x - 2] instanceof TilePassage))) {
-          visitedTiles.push(new TilePassage(0, x, y));
-
-          updateGrid[y][x - 2] =
-              new TilePassage(
-                  tileWH, updateGrid[y][x - 2].getMinX(), updateGrid[y][x - 2].getMinY());
-
-          updateGrid[y][x - 1] =
-              new TilePassage(
-                  tileWH, updateGrid[y][x - 1].getMinX(), updateGrid[y][x - 1].getMinY());
-
-          carvePassage(x - 2, y);
-        }
-    }
+  /**
+   * Returns a well-mixed 2-bit variant for a cell (SplitMix64 finaliser). Shared with {@link
+   * OffHeapMazeGrid}, which hashes grass on read instead of storing it.
+   *
+   * @param seed the maze seed
+   * @param cell row-major cell index, {@code row * rowColAmount + col}
+   * @return a variant from 0 to 3
+   */
+  static int grassVariant(long seed, long cell) {
+    long z = seed + (cell + 1) * 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return (int) ((z ^ (z >>> 31)) >>> 62);
   }
 
   /**
-   * Assigns NESW neighbour bitmask strings to all wall tiles for sprite selection.
+   * Rebuilds the generator state around a grid whose passages and exit were loaded from {@link
+   * MazeCache}, instead of running {@link #generate()}. Keys, bone, wall masks and grass are
+   * restored so the result is indistinguishable from a freshly generated maze.
    *
-   * @param tileSet the tile grid
-   * @return the grid with wall IDs set
+   * @param startRow odd starting row
+   * @param startCol odd starting column
+   * @param keys key cells in placement order, packed as {@code row * rowColAmount + col}
+   * @param boneRow the bone's row, or -1 for none
+   * @param boneCol the bone's column, or -1 for none
+   * @return the restored grid
    */
-  public Tile[][] addWallIds(Tile[][] tileSet) {
-    int neighbours;
-
-    for (int i = 0; i < tileSet.length; i++) {
-
-      for (int j = 0; j < tileSet.length; j++) {
-        if ((tileSet[i][j]) instanceof TileWall) { // If current tile is a wall
-          neighbours = 0;
-
-          if (((i - 1) >= 0 && (i - 1) <= tileSet.length)
-              && ((tileSet[i - 1][j]) instanceof TilePassage)) { // Check if north tile is a passage
-            neighbours += Integer.parseInt("1000", 2);
-          }
-
-          if (((j + 1) >= 0 && (j + 1) < tileSet.length)
-              && ((tileSet[i][j + 1]) instanceof TilePassage)) { // Check if east tile is a passage
-            neighbours += Integer.parseInt("0100", 2);
-          }
-
-          if (((i + 1) >= 0 && (i + 1) < tileSet.length)
-              && ((tileSet[i + 1][j]) instanceof TilePassage)) { // Check if south tile is a passage
-            neighbours += Integer.parseInt("0010", 2);
-          }
-
-          if (((j - 1) >= 0 && (j - 1) <= tileSet.length)
-              && ((tileSet[i][j - 1]) instanceof TilePassage)) { // Check if west tile is a passage
-            neighbours += Integer.parseInt("0001", 2);
-          }
-
-          TileWall t = (TileWall) tileSet[i][j];
-
-          String binaryString = Integer.toBinaryString(neighbours);
-          while (binaryString.length() < 4) {
-            binaryString = "0" + binaryString;
-          }
-          t.setPassageNeighbours(binaryString);
-          tileSet[i][j] = t;
-        }
-      }
+  public MazeGrid restore(int startRow, int startCol, int[] keys, int boneRow, int boneCol) {
+    startingY = startRow;
+    startingX = startCol;
+    exitY = grid.getExitRow();
+    exitX = grid.getExitCol();
+    passageCount = grid.countPassages();
+
+    keyCells = keys;
+    for (int key : keys) {
+      grid.setKey(key / rowColAmount, key % rowColAmount, true);
     }
-
-    return tileSet;
+    grid.setBone(boneRow, boneCol);
+    addWallIds(grid);
+    paintGrass(grid);
+    return grid;
   }
 }
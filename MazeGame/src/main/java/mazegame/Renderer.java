@@ -6,7 +6,6 @@ import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Font;
 import java.awt.FontMetrics;
-import java.awt.GradientPaint;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
@@ -14,6 +13,7 @@ import java.awt.event.ActionEvent;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Ellipse2D;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
@@ -21,7 +21,8 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Random;
-import java.util.Stack;
+import java.util.SplittableRandom;
+import java.util.concurrent.Future;
 import javax.swing.Timer;
 
 /**
@@ -30,7 +31,6 @@ import javax.swing.Timer;
  */
 public class Renderer {
 
-  private static final int HUD_HEIGHT = 50;
   private static final int MESSAGE_FONT_SIZE = 20;
   private static final int MESSAGE_DURATION_MS = 5000;
   private static final int TIMER_CHECK_MS = 100;
@@ -169,16 +169,59 @@ public class Renderer {
   private final int keysRequired;
   private final AssetManager assetManager;
   private final AudioManager audioManager;
-  private final String skinPrefix;
+  // Game sprites pre-scaled to the tile size, so every tile draw is a 1:1 copy
+  private final SpriteAtlas atlas;
 
-  private Tile[][] tileArr;
+  // Walking animation sprite ids for the active skin, resolved once per level
+  private final int[] northFrames;
+  private final int[] eastFrames;
+  private final int[] southFrames;
+  private final int[] westFrames;
+
+  private MazeGrid grid;
+  private ChunkedMazeWorld world;
   private RecursiveBacktracker mazeGenerator;
+  private MazeCache mazeCache = new MazeCache(new File(MazeCache.DEFAULT_DIR));
   private int startingX;
   private int startingY;
   private int tileWidth;
 
+  /** Pre-rendered grass and walls of the current maze or world. */
+  private StaticLayerCache staticLayer;
+
+  /** Viewport over the maze; scrolling only moves the camera, tiles hold no positions. */
+  private final Camera camera;
+
+  private boolean exitOpen;
+
   private Timer gameTimer;
-  private Stack<Tile> keysOnMap = new Stack<>();
+  private final ItemIndex items;
+
+  /** Cell-entry events for the exit and pickups; collision itself only tests walls. */
+  private final TriggerTable triggers;
+
+  private final int exitTrigger;
+  private final int boneTrigger;
+  private final int keyTrigger;
+
+  /** The current maze or world as seen by {@link BoxCollider}. */
+  private final BoxCollider.Tiles collisionTiles =
+      new BoxCollider.Tiles() {
+        @Override
+        public boolean isBlocked(int row, int col) {
+          if (world != null) {
+            return world.isWall(row, col);
+          }
+          return !grid.inBounds(row, col) || grid.isWall(row, col);
+        }
+
+        @Override
+        public void enter(int row, int col) {
+          if (world == null) {
+            triggers.enter(row * rowColAmount + col);
+          }
+        }
+      };
 
   private String playerMessage = "";
   private long activatedAt = Long.MAX_VALUE;
@@ -199,8 +242,11 @@ public class Renderer {
   private long wallClockAtResumeMs;
   private double accumulatedGameSec;
   private double gameSecAtLastRemoval;
-  private BufferedImage playerImg;
-  private Stack<BufferedImage> nextPlayerAnimation = new Stack<>();
+  private int playerSprite;
+
+  // Queued walking frames, played from the top (last pushed) down
+  private final int[] nextPlayerAnimation = new int[MAX_ANIMATION_STACK_SIZE + 8];
+  private int nextPlayerAnimationSize;
 
   // Speech bubble state
   private final Random quipRng = new Random();
@@ -220,11 +266,11 @@ public class Renderer {
   // Bone collectible state
   private static final Color BONE_COLOR = UiTheme.BONE_COLOR;
   private static final Color BONE_OUTLINE = UiTheme.BONE_OUTLINE;
-  private TilePassage boneTile;
   private boolean boneCollectedThisRun;
   private final boolean boneAlreadyCollected;
   private final MazeGame game;
   private BufferedImage boneSprite;
+  private final HudLayer hud;
 
   // Bone-collection visual feedback
   private long boneCollectFlashStart = Long.MIN_VALUE;
@@ -265,25 +311,37 @@ public class Renderer {
     this.rowColAmount = rowColAmount;
     this.assetManager = assetManager;
     this.audioManager = audioManager;
-    this.skinPrefix = settings.getSpritePrefix();
     this.game = game;
     this.boneAlreadyCollected = boneAlreadyCollected;
 
     screenWidthHalf = screenWidth / 2;
     screenHeightHalf = screenHeight / 2;
+    camera = new Camera(screenWidth, screenHeight);
 
     keyCount = 0;
     keysRequired = (rowColAmount / 10) * 2;
+    items = new ItemIndex(rowColAmount);
+    triggers = new TriggerTable(rowColAmount);
+    exitTrigger = triggers.register(this::onEnterExit);
+    boneTrigger = triggers.register(this::onEnterBone);
+    keyTrigger = triggers.register(this::onEnterKey);
 
     try {
       assetManager.preloadImages();
     } catch (IOException e) {
       e.printStackTrace();
     }
-    playerImg = assetManager.getPreloadedImage(skinPrefix + "East0");
+    atlas = assetManager.getScaledAtlas(tileWH);
+    GameSettings.DogSkin skin = settings.getActiveSkin();
+    northFrames = assetManager.getDogSprites(skin, AssetManager.NORTH);
+    eastFrames = assetManager.getDogSprites(skin, AssetManager.EAST);
+    southFrames = assetManager.getDogSprites(skin, AssetManager.SOUTH);
+    westFrames = assetManager.getDogSprites(skin, AssetManager.WEST);
+    playerSprite = eastFrames[0];
     boneSprite = generateBoneImage(tileWH);
+    hud = new HudLayer(screenWidth, keysRequired, KEY_REMOVAL_INTERVAL, boneSprite);
 
-    view = new BufferedImage(screenWidth, screenHeight, BufferedImage.TYPE_INT_RGB);
+    view = CompatibleImages.create(screenWidth, screenHeight, true);
 
     gameTimer =
         new Timer(
@@ -294,7 +352,7 @@ public class Renderer {
               timeTaken = totalGameSec;
 
               // All keys collected — nothing left to remove
-              if (keyCount >= keysRequired || keysOnMap.isEmpty()) {
+              if (keyCount >= keysRequired || items.count(ItemIndex.KEY) == 0) {
                 timeUntilKeyRemoval = KEY_REMOVAL_INTERVAL;
                 return;
               }
@@ -304,11 +362,10 @@ public class Renderer {
 
               if (timeUntilKeyRemoval <= 0) {
                 gameSecAtLastRemoval = totalGameSec;
-                TilePassage removedKey = (TilePassage) keysOnMap.pop();
-                removedKey.setItem(false);
+                triggers.remove(keyTrigger, items.removeLast(ItemIndex.KEY));
                 audioManager.play(AudioManager.Sound.KEY_VANISHED);
 
-                if (keysOnMap.size() < (keysRequired - keyCount)) {
+                if (items.count(ItemIndex.KEY) < (keysRequired - keyCount)) {
                   audioManager.play(AudioManager.Sound.LEVEL_FAILED);
                   game.setGameState(false, "Level Failed");
                   gameTimer.stop();
@@ -352,366 +409,415 @@ public class Renderer {
 
   /** Renders the black background. */
   public void renderBackground(Graphics g) {
-    g.drawImage(view, 0, 0, screenWidth, screenHeight, null);
+    g.drawImage(view, 0, 0, null);
   }
 
   /**
-   * Generates a new maze using the recursive backtracker algorithm.
+   * Generates a new maze with a random seed, using the generator suited to the grid size. A fresh
+   * seed can never hit the {@link MazeCache}, so the cache is bypassed.
    *
    * @param tileWH pixel size of each tile
    * @param tileBorder border inset
    */
   public void generateMaze(int tileWH, int tileBorder) {
-    mazeGenerator = new RecursiveBacktracker(tileWH, tileBorder, rowColAmount);
-    tileArr = mazeGenerator.startGeneration();
-    startingX = tileArr[mazeGenerator.getStartingX()][mazeGenerator.getStartingY()].getMinX();
-    startingY = tileArr[mazeGenerator.getStartingX()][mazeGenerator.getStartingY()].getMinY();
+    generateMaze(
+        tileWH,
+        tileBorder,
+        new SplittableRandom().nextLong(),
+        MazeGenerators.forSize(rowColAmount),
+        false);
+  }
+
+  /**
+   * Generates the maze for a campaign level with a random seed.
+   *
+   * @param tileWH pixel size of each tile
+   * @param tileBorder border inset
+   * @param level the 1-based level number
+   */
+  public void generateMazeForLevel(int tileWH, int tileBorder, int level) {
+    generateMaze(
+        tileWH,
+        tileBorder,
+        new SplittableRandom().nextLong(),
+        MazeGenerators.forLevel(level, rowColAmount),
+        false);
+  }
+
+  /**
+   * Generates a new maze using the generator suited to the grid size. The same seed and grid size
+   * always produce the same layout, keys and bone, so levels can be replayed and compared. The
+   * {@link MazeCache} is checked first and filled on a miss.
+   *
+   * @param tileWH pixel size of each tile
+   * @param tileBorder border inset
+   * @param seed the generation seed
+   */
+  public void generateMaze(int tileWH, int tileBorder, long seed) {
+    generateMaze(tileWH, tileBorder, seed, MazeGenerators.forSize(rowColAmount), true);
+  }
+
+  /**
+   * Generates a new maze with a named algorithm (see {@link MazeGenerators#names()}), checking the
+   * {@link MazeCache} first.
+   *
+   * @param tileWH pixel size of each tile
+   * @param tileBorder border inset
+   * @param seed the generation seed
+   * @param algorithm the generator name, e.g. {@code "kruskal"}
+   */
+  public void generateMaze(int tileWH, int tileBorder, long seed, String algorithm) {
+    generateMaze(tileWH, tileBorder, seed, MazeGenerators.byName(algorithm), true);
+  }
+
+  private void generateMaze(
+      int tileWH, int tileBorder, long seed, MazeGenerator generator, boolean cached) {
+    RecursiveBacktracker maze = null;
+    if (cached && mazeCache != null) {
+      maze = mazeCache.load(tileWH, tileBorder, rowColAmount, seed, generator);
+    }
+    if (maze == null) {
+      maze = new RecursiveBacktracker(tileWH, tileBorder, rowColAmount, seed, generator);
+      maze.generate();
+      if (cached && mazeCache != null) {
+        mazeCache.store(maze);
+      }
+    }
+    useMaze(maze);
+  }
+
+  /**
+   * Sets the cache consulted by the seeded {@code generateMaze} overloads.
+   *
+   * @param mazeCache the cache, or {@code null} to always generate
+   */
+  public void setMazeCache(MazeCache mazeCache) {
+    this.mazeCache = mazeCache;
+  }
 
-    for (TilePassage keyTile : mazeGenerator.getKeyCoords()) {
-      keysOnMap.push(keyTile);
+  /**
+   * Uses a maze generated ahead of time by {@link LevelPregenerator}, waiting for it if it is still
+   * being built. Falls back to generating the level here if nothing was prepared or the background
+   * job failed.
+   *
+   * @param tileWH pixel size of each tile
+   * @param tileBorder border inset
+   * @param level the 1-based level number
+   * @param prepared the pre-generated maze, or {@code null}
+   */
+  public void loadMaze(
+      int tileWH, int tileBorder, int level, Future<RecursiveBacktracker> prepared) {
+    RecursiveBacktracker maze = LevelPregenerator.await(prepared);
+    if (maze == null) {
+      generateMazeForLevel(tileWH, tileBorder, level);
+    } else {
+      useMaze(maze);
     }
-    placeBone();
+  }
+
+  /**
+   * Takes over a fully generated maze: grid, start cell and key list.
+   *
+   * @param maze a generator whose {@link RecursiveBacktracker#generate()} has completed
+   */
+  public void useMaze(RecursiveBacktracker maze) {
+    world = null;
+    mazeGenerator = maze;
+    grid = maze.getGrid();
+    staticLayer = new StaticLayerCache(this::paintStaticTile, tileWidth, rowColAmount);
+    startingX = maze.getStartingX() * tileWidth;
+    startingY = maze.getStartingY() * tileWidth;
+
+    items.clear();
+    triggers.clear();
+    for (int keyCell : mazeGenerator.getKeyCells()) {
+      items.add(ItemIndex.KEY, keyCell);
+      triggers.add(keyTrigger, keyCell);
+    }
+    if (boneAlreadyCollected) {
+      grid.setBone(-1, -1);
+    } else if (grid.getBoneRow() >= 0) {
+      int boneCell = grid.getBoneRow() * rowColAmount + grid.getBoneCol();
+      items.add(ItemIndex.BONE, boneCell);
+      triggers.add(boneTrigger, boneCell);
+    }
+    if (grid.getExitRow() >= 0) {
+      triggers.add(exitTrigger, grid.getExitRow() * rowColAmount + grid.getExitCol());
+    }
+  }
+
+  /**
+   * Switches to an endless {@link ChunkedMazeWorld} instead of a single maze. The player starts on
+   * the world's first cell; there are no keys, bone or exit.
+   *
+   * @param world the world to explore
+   */
+  public void useWorld(ChunkedMazeWorld world) {
+    this.world = world;
+    grid = null;
+    staticLayer = new StaticLayerCache(this::paintStaticTile, tileWidth, 0);
+    mazeGenerator = null;
+    items.clear();
+    triggers.clear();
+    startingX = tileWidth;
+    startingY = tileWidth;
+    world.prefetchAround(1, 1);
+  }
+
+  /** Returns the endless world being explored, or {@code null} for a normal level. */
+  public ChunkedMazeWorld getWorld() {
+    return world;
+  }
+
+  /** Returns the seed the current maze was generated from. */
+  public long getSeed() {
+    return mazeGenerator.getSeed();
+  }
+
+  /** Returns the name of the algorithm the current maze was carved with. */
+  public String getGeneratorName() {
+    return mazeGenerator.getGenerator().getName();
   }
 
   /** Centres the maze view on the player's starting tile. */
   public void centerMaze() {
-    Tile centerTile = tileArr[mazeGenerator.getStartingX()][mazeGenerator.getStartingY()];
-    int offsetX = screenWidth / 2 - centerTile.getMinX();
-    int offsetY = screenHeight / 2 - centerTile.getMinY();
-
-    for (int row = 0; row < rowColAmount; row++) {
-      for (int col = 0; col < rowColAmount; col++) {
-        Tile tile = tileArr[col][row];
-        tile.setMinX(tile.getMinX() + offsetX);
-        tile.setMinY(tile.getMinY() + offsetY);
-      }
-    }
+    camera.centerOn(startingX, startingY);
+  }
+
+  /** Returns the viewport the maze is drawn through. */
+  public Camera getCamera() {
+    return camera;
   }
 
   /**
    * Renders all visible maze tiles, including grass backgrounds, key items, wall/exit sprites, and
-   * exit accessibility checks.
+   * exit accessibility checks. Only the tile range inside the {@link Camera} is visited, and tile
+   * positions are derived from the row/column rather than stored per tile.
    *
    * @param g the graphics context
    * @param tileWH pixel size of each tile
    */
   public void renderMaze(Graphics g, int tileWH) {
-    for (int row = 0; row < rowColAmount; row++) {
-      for (int col = 0; col < rowColAmount; col++) {
-        Tile tile = tileArr[col][row];
-
-        // Frustum culling — only render visible tiles
-        if (tile.getMinX() <= -tileWH
-            || tile.getMaxX() >= screenWidth + tileWH
-            || tile.getMinY() <= -tileWH
-            || tile.getMaxY() >= screenHeight + tileWH) {
-          continue;
-        }
+    if (world != null) {
+      renderWorld(g);
+      return;
+    }
+
+    // Unlock exit when all keys collected
+    if (keyCount >= keysRequired) {
+      exitOpen = true;
+    }
 
-        // Grass background
-        String grassVariant =
-            (col % 2 == 0) ? "GrassPassage_" + tile.getPassageImageId() : "GrassPassage_0";
-        g.drawImage(
-            getImage(grassVariant),
-            tile.getMinX(),
-            tile.getMinY(),
-            tile.getSize(),
-            tile.getSize(),
-            null);
-
-        // Key item animation
-        if ("Key".equals(tile.getImageString())) {
-          BufferedImage keyFrame =
-              (keysOnMap.peek() == tile)
-                  ? assetManager.getBlinkingKeyFrame()
-                  : assetManager.getKeyFrame();
-          if (keyFrame != null) {
-            g.drawImage(
-                keyFrame, tile.getMinX(), tile.getMinY(), tile.getSize(), tile.getSize(), null);
+    // Grass and walls come pre-rendered; only what changes is drawn per tile
+    staticLayer.draw(g, camera);
+
+    // The next key to vanish blinks
+    int nextToVanish = items.last(ItemIndex.KEY);
+
+    // Frustum culling — only visit tiles inside the viewport
+    int firstRow = Math.max(0, camera.firstVisibleRow(tileWidth));
+    int lastRow = Math.min(rowColAmount - 1, camera.lastVisibleRow(tileWidth));
+    int firstCol = Math.max(0, camera.firstVisibleCol(tileWidth));
+    int lastCol = Math.min(rowColAmount - 1, camera.lastVisibleCol(tileWidth));
+
+    int keySprite = assetManager.getKeySprite();
+    int blinkingKeySprite = assetManager.getBlinkingKeySprite();
+    for (int row = firstRow; row <= lastRow; row++) {
+      int minY = camera.toScreenY(row * tileWidth);
+      int rowBase = row * rowColAmount;
+      for (int col = firstCol; col <= lastCol; col++) {
+        int cell = rowBase + col;
+        if (items.has(ItemIndex.KEY, cell)) {
+          int sprite = (cell == nextToVanish) ? blinkingKeySprite : keySprite;
+          if (sprite >= 0) {
+            atlas.draw(g, sprite, camera.toScreenX(col * tileWidth), minY);
           }
         }
 
         // Bone item (animated bob)
-        if (tile == boneTile && !boneCollectedThisRun) {
+        if (items.has(ItemIndex.BONE, cell)) {
           double bob = Math.sin(System.currentTimeMillis() / 400.0) * 3;
-          g.drawImage(
-              boneSprite,
-              tile.getMinX(),
-              tile.getMinY() + (int) bob,
-              tile.getSize(),
-              tile.getSize(),
-              null);
-        }
-
-        // Tile sprite (wall, exit, or passage — passage returns null)
-        BufferedImage tileImage = getImage(tile.getImageString());
-        if (tileImage != null) {
-          g.drawImage(
-              tileImage, tile.getMinX(), tile.getMinY(), tile.getSize(), tile.getSize(), null);
-        }
-
-        // Unlock exit when all keys collected
-        if (tile instanceof TileExit && keyCount >= keysRequired) {
-          ((TileExit) tile).setAccessible(true);
+          g.drawImage(boneSprite, camera.toScreenX(col * tileWidth), minY + (int) bob, null);
         }
       }
     }
+
+    // Exit sprite
+    int exitRow = grid.getExitRow();
+    int exitCol = grid.getExitCol();
+    if (exitRow >= firstRow && exitRow <= lastRow && exitCol >= firstCol && exitCol <= lastCol) {
+      atlas.draw(
+          g,
+          assetManager.getExitSprite(exitOpen),
+          camera.toScreenX(exitCol * tileWidth),
+          camera.toScreenY(exitRow * tileWidth));
+    }
   }
 
   /**
-   * Looks up a preloaded image by name.
-   *
-   * @param imageName the cache key
-   * @return the image, or {@code null}
+   * Renders the visible part of an endless world. Only chunks inside the screen are drawn, so the
+   * cost per frame depends on the view size, never on how far the player has walked; maze chunks
+   * around the player are loaded before drawing.
    */
-  public BufferedImage getImage(String imageName) {
-    return assetManager.getPreloadedImage(imageName);
+  private void renderWorld(Graphics g) {
+    world.prefetchAround(camera.centerRow(tileWidth), camera.centerCol(tileWidth));
+    staticLayer.draw(g, camera);
   }
 
   /**
-   * Renders a modern heads-up display showing key count, level, elapsed time, and key-removal
-   * countdown with gradient background and accent styling.
-   *
-   * @param g the graphics context
-   * @param p the player (reserved for future HUD info)
-   * @param level the current level number
+   * Paints a tile's grass and, for a wall, its wall sprite into a {@link StaticLayerCache} chunk.
+   * Grass on even rows uses the tile's variant; odd rows always use variant 0.
    */
-  public void renderHUD(Graphics g, int level) {
-    Graphics2D g2 = (Graphics2D) g;
-    g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-    g2.setRenderingHint(
-        RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-
-    int hudH = HUD_HEIGHT;
-
-    // Gradient background
-    g2.setPaint(
-        new GradientPaint(0, 0, new Color(26, 26, 26, 240), 0, hudH, new Color(34, 30, 28, 240)));
-    g2.fillRect(0, 0, screenWidth, hudH);
-
-    // Bottom accent line
-    g2.setColor(new Color(196, 149, 106, 150));
-    g2.fillRect(0, hudH - 2, screenWidth, 2);
-
-    int pad = 20;
-    int topY = 19;
-    int botY = 39;
-    Font labelFont = new Font("Dialog", Font.PLAIN, 11);
-    Font valueFont = new Font("Dialog", Font.BOLD, 16);
-    Color labelColor = new Color(160, 145, 130);
-
-    // ---- Left: Keys ----
-    g2.setFont(labelFont);
-    g2.setColor(labelColor);
-    g2.drawString(Messages.get("hud.keys_label"), pad, topY);
-    g2.setFont(valueFont);
-    g2.setColor(new Color(196, 149, 106));
-    g2.drawString(Messages.fmt("hud.keys_value", keyCount, keysRequired), pad, botY);
-
-    // ---- Left: Bone indicator ----
-    int keysTextW =
-        g2.getFontMetrics().stringWidth(Messages.fmt("hud.keys_value", keyCount, keysRequired));
-    int boneX = pad + keysTextW + 20;
-    g2.setFont(labelFont);
-    g2.setColor(labelColor);
-    g2.drawString(Messages.get("hud.bone_label"), boneX, topY);
-    int boneIconSize = 16;
-    if (boneCollectedThisRun || boneAlreadyCollected) {
-      g.drawImage(boneSprite, boneX, topY + 4, boneIconSize, boneIconSize, null);
-      g2.setFont(valueFont);
-      g2.setColor(BONE_COLOR);
-      g2.drawString("\u2713", boneX + boneIconSize + 3, botY);
+  private void paintStaticTile(Graphics2D g, int row, int col, int x, int y) {
+    int variant;
+    boolean wall;
+    int mask = 0;
+    if (world != null) {
+      variant = (row % 2 == 0) ? world.getGrassVariant(row, col) : 0;
+      wall = world.isWall(row, col);
+      if (wall) {
+        mask = world.getWallMask(row, col);
+      }
     } else {
-      Composite boneOldComp = g2.getComposite();
-      g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.35f));
-      g.drawImage(boneSprite, boneX, topY + 4, boneIconSize, boneIconSize, null);
-      g2.setComposite(boneOldComp);
-      g2.setFont(valueFont);
-      g2.setColor(labelColor);
-      g2.drawString("\u2014", boneX + boneIconSize + 3, botY);
+      variant = (row % 2 == 0) ? grid.getGrassVariant(row, col) : 0;
+      wall = grid.isWall(row, col);
+      if (wall) {
+        mask = grid.getWallMask(row, col);
+      }
     }
-
-    // ---- Center: Level ----
-    g2.setFont(labelFont);
-    g2.setColor(labelColor);
-    FontMetrics lfm = g2.getFontMetrics();
-    String lvlLabel = Messages.get("hud.level_label");
-    g2.drawString(lvlLabel, (screenWidth - lfm.stringWidth(lvlLabel)) / 2, topY);
-    g2.setFont(valueFont);
-    g2.setColor(Color.WHITE);
-    FontMetrics vfm = g2.getFontMetrics();
-    String lvlVal = String.valueOf(level);
-    g2.drawString(lvlVal, (screenWidth - vfm.stringWidth(lvlVal)) / 2, botY);
-
-    // ---- Right area ----
-    DecimalFormat df = new DecimalFormat("0.0");
-
-    // Key-removal countdown (far right)
-    String countdownVal = df.format(Math.max(0, timeUntilKeyRemoval)) + "s";
-    double ratio = timeUntilKeyRemoval / KEY_REMOVAL_INTERVAL;
-    Color countdownColor;
-    if (ratio < 0.3) {
-      countdownColor = new Color(255, 80, 80);
-    } else if (ratio < 0.6) {
-      countdownColor = new Color(255, 220, 80);
-    } else {
-      countdownColor = new Color(196, 149, 106);
+    atlas.draw(g, assetManager.getGrassSprite(variant), x, y);
+    if (wall) {
+      atlas.draw(g, assetManager.getWallSprite(mask), x, y);
     }
+  }
 
-    g2.setFont(labelFont);
-    FontMetrics sfm = g2.getFontMetrics();
-    String cdLabel = Messages.get("hud.key_timer_label");
-    int cdLabelX = screenWidth - pad - sfm.stringWidth(cdLabel);
-    g2.setColor(labelColor);
-    g2.drawString(cdLabel, cdLabelX, topY);
-    g2.setFont(valueFont);
-    g2.setColor(countdownColor);
-    FontMetrics cvfm = g2.getFontMetrics();
-    g2.drawString(countdownVal, screenWidth - pad - cvfm.stringWidth(countdownVal), botY);
-
-    // Countdown progress bar
-    int barW = 80;
-    int barH = 3;
-    int barX = screenWidth - pad - barW;
-    int barY = botY + 4;
-    g2.setColor(new Color(50, 44, 40));
-    g2.fillRect(barX, barY, barW, barH);
-    int filledW = (int) (barW * Math.max(0, Math.min(1, ratio)));
-    g2.setColor(countdownColor);
-    g2.fillRect(barX, barY, filledW, barH);
-
-    // Elapsed time (left of key timer)
-    g2.setFont(labelFont);
-    String timeLabel = Messages.get("hud.time_label");
-    int timeX = cdLabelX - 110;
-    g2.setColor(labelColor);
-    g2.drawString(timeLabel, timeX, topY);
-    g2.setFont(valueFont);
-    g2.setColor(new Color(220, 216, 210));
-    g2.drawString(df.format(timeTaken) + "s", timeX, botY);
+  /**
+   * Renders the heads-up display showing key count, bone state, level, elapsed time and key-removal
+   * countdown. The HUD is cached by {@link HudLayer}; only values that changed are repainted.
+   *
+   * @param g the graphics context
+   * @param level the current level number
+   */
+  public void renderHUD(Graphics g, int level) {
+    hud.draw(
+        g,
+        level,
+        keyCount,
+        boneCollectedThisRun || boneAlreadyCollected,
+        timeTaken,
+        timeUntilKeyRemoval);
   }
 
   /**
-   * Scrolls the maze horizontally and queues the appropriate player walking animation.
+   * Scrolls the maze horizontally and queues the appropriate player walking animation. Only the
+   * camera moves, so this is O(1) in the maze size.
    *
    * @param numOfRowCol grid size
    * @param dir scroll direction (negative = east, positive = west)
    */
   public void moveMazeX(int numOfRowCol, int dir) {
-    for (int row = 0; row < numOfRowCol; row++) {
-      for (int col = 0; col < numOfRowCol; col++) {
-        Tile tile = tileArr[col][row];
-        tile.setMinX(tile.getMinX() + dir);
-      }
-    }
+    camera.move(-dir, 0);
 
-    if (nextPlayerAnimation.size() <= MAX_ANIMATION_STACK_SIZE) {
-      String direction = (dir < 0) ? skinPrefix + "East" : skinPrefix + "West";
-      int frameCount = 7;
-      for (int i = 0; i < frameCount; i++) {
-        nextPlayerAnimation.push(getImage(direction + i));
-      }
-    }
+    queueAnimation(dir < 0 ? eastFrames : westFrames);
   }
 
   /**
-   * Scrolls the maze vertically and queues the appropriate player walking animation.
+   * Scrolls the maze vertically and queues the appropriate player walking animation. Only the
+   * camera moves, so this is O(1) in the maze size.
    *
    * @param numOfRowCol grid size
    * @param dir scroll direction (positive = north, negative = south)
    */
   public void moveMazeY(int numOfRowCol, int dir) {
-    for (int row = 0; row < numOfRowCol; row++) {
-      for (int col = 0; col < numOfRowCol; col++) {
-        Tile tile = tileArr[col][row];
-        tile.setMinY(tile.getMinY() + dir);
-      }
-    }
+    camera.move(0, -dir);
 
-    if (nextPlayerAnimation.size() <= MAX_ANIMATION_STACK_SIZE) {
-      String direction = (dir > 0) ? skinPrefix + "North" : skinPrefix + "South";
-      int frameCount = 6;
-      for (int i = 0; i < frameCount; i++) {
-        nextPlayerAnimation.push(getImage(direction + i));
+    queueAnimation(dir > 0 ? northFrames : southFrames);
+  }
+
+  private void queueAnimation(int[] frames) {
+    if (nextPlayerAnimationSize <= MAX_ANIMATION_STACK_SIZE) {
+      for (int frame : frames) {
+        nextPlayerAnimation[nextPlayerAnimationSize++] = frame;
       }
     }
   }
 
   /**
-   * Determines which tile the player is currently standing on.
+   * Moves the player's collision box horizontally as far as the maze allows, firing the {@link
+   * TriggerTable} for each cell it enters. See {@link BoxCollider}: the sweep stops flush against
+   * the first wall, however large the step.
    *
-   * @param playerX player x-coordinate
-   * @param playerY player y-coordinate
-   * @param playerSize player sprite size
-   * @param tileWH tile width/height
-   * @param tileBorder tile border inset
-   * @return a two-element array {@code [row, col]}, or {@code null}
+   * @param left maze-space x-coordinate of the box's left edge
+   * @param top maze-space y-coordinate of the box's top edge
+   * @param size box width and height in pixels
+   * @param dx requested movement, positive to the east
+   * @return the movement actually made, between 0 and {@code dx}
    */
-  public int[] getTile(int playerX, int playerY, int playerSize, int tileWH, int tileBorder) {
-    Tilemap lookup = new Tilemap(tileWH, tileBorder, rowColAmount);
-    int centreX = playerX + (playerSize / 2);
-    int centreY = playerY + (playerSize / 2);
-
-    return lookup.getCurrentTile(centreX, centreY);
+  public int sweepX(int left, int top, int size, int dx) {
+    return BoxCollider.sweepX(collisionTiles, tileWidth, left, top, size, size, dx);
   }
 
   /**
-   * Checks collision at the given tile position and handles game events (key pickup, exit check,
-   * wall blocking).
+   * Moves the player's collision box vertically; the counterpart of {@link #sweepX(int, int, int,
+   * int)}.
    *
-   * @param current the tile position as {@code [row, col]}
-   * @param game the game instance for state callbacks
-   * @return true if the player can move to this tile
+   * @param left maze-space x-coordinate of the box's left edge
+   * @param top maze-space y-coordinate of the box's top edge
+   * @param size box width and height in pixels
+   * @param dy requested movement, positive to the south
+   * @return the movement actually made, between 0 and {@code dy}
    */
-  public boolean checkCollision(int[] current, MazeGame game) {
-    Tile tile = tileArr[current[0]][current[1]];
-
-    if (tile instanceof TileWall) {
-      return false;
-    } else if (tile instanceof TileExit) {
-      if (((TileExit) tile).getAccessible()) {
-        spawnConfetti();
-        audioManager.play(AudioManager.Sound.DOOR_OPEN);
-        // Delay state change so confetti is visible before the screen swaps
-        pendingLevelComplete = true;
-        levelCompleteTime = System.currentTimeMillis();
-      } else {
-        int remaining = keysRequired - keyCount;
-        playerMessage = Messages.fmt("message.door_locked", remaining);
-        activatedAt = System.currentTimeMillis();
-        lockedDoorFlashStart = System.currentTimeMillis();
-        triggerQuip(randomQuip(DOOR_LOCKED_QUIPS));
-        audioManager.play(AudioManager.Sound.LOCKED_DOOR);
-      }
+  public int sweepY(int left, int top, int size, int dy) {
+    return BoxCollider.sweepY(collisionTiles, tileWidth, left, top, size, size, dy);
+  }
+
+  /** Exit trigger: completes the level once enough keys are held, otherwise reports the lock. */
+  private void onEnterExit(int cell) {
+    if (exitOpen) {
+      spawnConfetti();
+      audioManager.play(AudioManager.Sound.DOOR_OPEN);
+      // Delay state change so confetti is visible before the screen swaps
+      pendingLevelComplete = true;
+      levelCompleteTime = System.currentTimeMillis();
     } else {
-      TilePassage passage = (TilePassage) tile;
-      // Bone pickup
-      if (passage == boneTile && !boneCollectedThisRun) {
-        boneCollectedThisRun = true;
-        boneCollectFlashStart = System.currentTimeMillis();
-        audioManager.play(AudioManager.Sound.BONE_PICKUP);
-        triggerQuip(randomQuip(BONE_PICKUP_QUIPS));
-        game.onBoneCollected();
-      }
-      if (passage.hasItem()) {
-        passage.setItem(false);
-        keyCount++;
-        keyCollectFlashStart = System.currentTimeMillis();
-        audioManager.play(AudioManager.Sound.KEY_PICKUP);
-        if (keyCount >= keysRequired) {
-          triggerQuip(randomQuip(ALL_KEYS_QUIPS));
-        } else {
-          triggerQuip(randomQuip(KEY_PICKUP_QUIPS));
-        }
-      }
+      int remaining = keysRequired - keyCount;
+      playerMessage = Messages.fmt("message.door_locked", remaining);
+      activatedAt = System.currentTimeMillis();
+      lockedDoorFlashStart = System.currentTimeMillis();
+      triggerQuip(randomQuip(DOOR_LOCKED_QUIPS));
+      audioManager.play(AudioManager.Sound.LOCKED_DOOR);
+    }
+  }
+
+  /** Bone trigger: collects the bone. */
+  private void onEnterBone(int cell) {
+    triggers.remove(boneTrigger, cell);
+    items.remove(ItemIndex.BONE, cell);
+    boneCollectedThisRun = true;
+    boneCollectFlashStart = System.currentTimeMillis();
+    audioManager.play(AudioManager.Sound.BONE_PICKUP);
+    triggerQuip(randomQuip(BONE_PICKUP_QUIPS));
+    game.onBoneCollected();
+  }
+
+  /** Key trigger: collects the key. */
+  private void onEnterKey(int cell) {
+    triggers.remove(keyTrigger, cell);
+    items.remove(ItemIndex.KEY, cell);
+    keyCount++;
+    keyCollectFlashStart = System.currentTimeMillis();
+    audioManager.play(AudioManager.Sound.KEY_PICKUP);
+    if (keyCount >= keysRequired) {
+      triggerQuip(randomQuip(ALL_KEYS_QUIPS));
+    } else {
+      triggerQuip(randomQuip(KEY_PICKUP_QUIPS));
     }
-    return true;
   }
 
   /** Advances the player sprite animation by one frame. */
   public void updateFrames() {
-    if (nextPlayerAnimation.size() > 1) {
-      playerImg = nextPlayerAnimation.pop();
+    if (nextPlayerAnimationSize > 1) {
+      playerSprite = nextPlayerAnimation[--nextPlayerAnimationSize];
     }
   }
 
@@ -722,7 +828,8 @@ public class Renderer {
    * @param spriteSize the sprite rendering size
    */
   public void renderPlayer(Graphics g, int spriteSize) {
-    g.drawImage(playerImg, screenWidthHalf, screenHeightHalf, spriteSize, spriteSize, null);
+    SpriteAtlas sprites = spriteSize == tileWidth ? atlas : assetManager.getScaledAtlas(spriteSize);
+    sprites.draw(g, playerSprite, screenWidthHalf, screenHeightHalf);
 
     renderActionFeedback(g);
 
@@ -1025,7 +1132,7 @@ public class Renderer {
    */
   private BufferedImage generateBoneImage(int size) {
     int spriteSize = size * 3 / 5; // bone is smaller than a full tile
-    BufferedImage img = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+    BufferedImage img = CompatibleImages.create(size, size, false);
     Graphics2D g2 = img.createGraphics();
     g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -1082,30 +1189,6 @@ public class Renderer {
     return img;
   }
 
-  /**
-   * Picks a random passable tile (not the start, not a key tile) and places the bone. Does nothing
-   * if the bone was already collected for this level.
-   */
-  private void placeBone() {
-    if (boneAlreadyCollected) return;
-
-    ArrayList<TilePassage> candidates = new ArrayList<>();
-    int startRow = mazeGenerator.getStartingX();
-    int startCol = mazeGenerator.getStartingY();
-    for (int r = 0; r < rowColAmount; r++) {
-      for (int c = 0; c < rowColAmount; c++) {
-        if (r == startRow && c == startCol) continue;
-        Tile t = tileArr[c][r];
-        if (t instanceof TilePassage && !((TilePassage) t).hasItem()) {
-          candidates.add((TilePassage) t);
-        }
-      }
-    }
-    if (!candidates.isEmpty()) {
-      boneTile = candidates.get(quipRng.nextInt(candidates.size()));
-    }
-  }
-
   /** Returns true if the bone was picked up during this run. */
   public boolean isBoneCollectedThisRun() {
     return boneCollectedThisRun;
@@ -0,0 +1,184 @@
+package mazegame;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+
+/**
+ * Game sprites packed into one image and addressed by {@code int} ids. Sprites are {@link
+ * #add(BufferedImage) added} while assets load, each returning its id, then {@link #pack() packed}
+ * once into shelves (rows) of a fixed-width sheet with a transparent pixel between neighbours.
+ * Drawing copies a sub-region of the sheet, so the render loop indexes plain arrays instead of
+ * building and hashing string keys.
+ *
+ * <p>Not thread-safe; filled during {@link AssetManager#preloadImages()} and read-only afterwards.
+ */
+public class SpriteAtlas {
+
+  /** Default sheet width in pixels. */
+  public static final int DEFAULT_WIDTH = 512;
+
+  private static final int PADDING = 1;
+
+  private final int width;
+  private ArrayList<BufferedImage> pending = new ArrayList<>();
+  private BufferedImage sheet;
+  private int[] x;
+  private int[] y;
+  private int[] w;
+  private int[] h;
+  private BufferedImage[] views;
+
+  /** Creates an empty atlas with the default sheet width. */
+  public SpriteAtlas() {
+    this(DEFAULT_WIDTH);
+  }
+
+  /**
+   * Creates an empty atlas.
+   *
+   * @param width sheet width in pixels; every sprite must fit in it
+   */
+  public SpriteAtlas(int width) {
+    this.width = width;
+  }
+
+  /**
+   * Registers a sprite to be packed.
+   *
+   * @param image the sprite
+   * @return its id, valid once the atlas is packed
+   * @throws IllegalStateException if the atlas is already packed
+   * @throws IllegalArgumentException if the sprite is wider than the sheet
+   */
+  public int add(BufferedImage image) {
+    if (pending == null) {
+      throw new IllegalStateException("Atlas is already packed");
+    }
+    if (image.getWidth() > width) {
+      throw new IllegalArgumentException(
+          "Sprite " + image.getWidth() + " px wide does not fit a " + width + " px sheet");
+    }
+    pending.add(image);
+    return pending.size() - 1;
+  }
+
+  /**
+   * Lays out every registered sprite and draws them into the sheet. Sprites are placed left to
+   * right in registration order, starting a new shelf when a row is full; a shelf is as tall as its
+   * tallest sprite.
+   */
+  public void pack() {
+    if (pending == null) {
+      return;
+    }
+    int count = pending.size();
+    x = new int[count];
+    y = new int[count];
+    w = new int[count];
+    h = new int[count];
+    views = new BufferedImage[count];
+
+    int shelfX = 0;
+    int shelfY = 0;
+    int shelfHeight = 0;
+    for (int id = 0; id < count; id++) {
+      BufferedImage image = pending.get(id);
+      if (shelfX + image.getWidth() > width) {
+        shelfX = 0;
+        shelfY += shelfHeight + PADDING;
+        shelfHeight = 0;
+      }
+      x[id] = shelfX;
+      y[id] = shelfY;
+      w[id] = image.getWidth();
+      h[id] = image.getHeight();
+      shelfX += image.getWidth() + PADDING;
+      shelfHeight = Math.max(shelfHeight, image.getHeight());
+    }
+
+    sheet = CompatibleImages.create(width, Math.max(1, shelfY + shelfHeight), false);
+    Graphics2D g = sheet.createGraphics();
+    for (int id = 0; id < count; id++) {
+      g.drawImage(pending.get(id), x[id], y[id], null);
+    }
+    g.dispose();
+    pending = null;
+  }
+
+  /**
+   * Returns a new packed atlas holding every sprite pre-scaled to a square, in the same id order.
+   * Sprites are resampled once here with nearest-neighbour, so drawing one at that size with {@link
+   * #draw(Graphics, int, int, int)} is a 1:1 copy instead of a scaled blit.
+   *
+   * @param size sprite width and height in pixels
+   * @return the scaled atlas
+   * @throws IllegalStateException if this atlas is not packed yet
+   */
+  public SpriteAtlas scaled(int size) {
+    if (pending != null) {
+      throw new IllegalStateException("Atlas is not packed yet");
+    }
+    SpriteAtlas scaled = new SpriteAtlas(Math.max(width, (size + PADDING) * 16));
+    for (int id = 0; id < x.length; id++) {
+      scaled.add(CompatibleImages.scaled(getImage(id), size, size));
+    }
+    scaled.pack();
+    return scaled;
+  }
+
+  /** Returns the number of sprites. */
+  public int size() {
+    return pending != null ? pending.size() : x.length;
+  }
+
+  /** Returns the packed sheet, or {@code null} before {@link #pack()}. */
+  public BufferedImage getSheet() {
+    return sheet;
+  }
+
+  /**
+   * Draws a sprite at its own size.
+   *
+   * @param g the graphics context
+   * @param id sprite id
+   * @param dx destination x-coordinate
+   * @param dy destination y-coordinate
+   */
+  public void draw(Graphics g, int id, int dx, int dy) {
+    draw(g, id, dx, dy, w[id], h[id]);
+  }
+
+  /**
+   * Draws a sprite scaled to a destination rectangle.
+   *
+   * @param g the graphics context
+   * @param id sprite id
+   * @param dx destination x-coordinate
+   * @param dy destination y-coordinate
+   * @param dw destination width
+   * @param dh destination height
+   */
+  public void draw(Graphics g, int id, int dx, int dy, int dw, int dh) {
+    int sx = x[id];
+    int sy = y[id];
+    g.drawImage(sheet, dx, dy, dx + dw, dy + dh, sx, sy, sx + w[id], sy + h[id], null);
+  }
+
+  /**
+   * Returns a sprite as an image sharing the sheet's pixels, for code that needs a {@link
+   * BufferedImage}. Views are created once per sprite.
+   *
+   * @param id sprite id
+   * @return the sprite
+   */
+  public BufferedImage getImage(int id) {
+    BufferedImage view = views[id];
+    if (view == null) {
+      view = sheet.getSubimage(x[id], y[id], w[id], h[id]);
+      views[id] = view;
+    }
+    return view;
+  }
+}
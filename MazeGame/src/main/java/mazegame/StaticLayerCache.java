@@ -0,0 +1,191 @@
+package mazegame;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pre-rendered images of the parts of the maze that never change during a level: grass and walls.
+ * Tiles are grouped into square chunks of {@code chunkTiles} per side; a chunk is painted once, the
+ * first time it scrolls into view, and afterwards each frame costs one {@code drawImage} per
+ * visible chunk instead of two or more scaled draws per visible tile. Keys, the bone, the exit and
+ * the player change and are drawn over the top by {@link Renderer}.
+ *
+ * <p>Chunks are kept in access order and the least recently drawn one is evicted once the memory
+ * budget is exceeded, so endless mode stays bounded; at least a 3×3 block always fits, which covers
+ * any view up to two chunks wide. Chunks lying partly outside a bounded maze keep a transparent
+ * margin so the background shows through; all others are opaque. Used from the game loop only.
+ */
+public class StaticLayerCache {
+
+  /** Paints one tile's static content into a chunk image. */
+  public interface TilePainter {
+
+    /**
+     * Paints a tile.
+     *
+     * @param g graphics of the chunk image
+     * @param row tile row
+     * @param col tile column
+     * @param x x-coordinate of the tile's top-left corner in the chunk image
+     * @param y y-coordinate of the tile's top-left corner in the chunk image
+     */
+    void paintTile(Graphics2D g, int row, int col, int x, int y);
+  }
+
+  /** Default chunk size in tiles per side. */
+  public static final int DEFAULT_CHUNK_TILES = 8;
+
+  /** Default memory budget for resident chunk images, in bytes. */
+  public static final long DEFAULT_MEMORY_BUDGET = 32L << 20;
+
+  /** Chunks that must fit in the budget (a 3×3 block). */
+  public static final int MIN_RESIDENT_CHUNKS = 9;
+
+  private final TilePainter painter;
+  private final int tileWH;
+  private final int chunkTiles;
+  private final int chunkPixels;
+  private final int rowColAmount;
+  private final int maxChunks;
+  private final LinkedHashMap<Long, BufferedImage> chunks;
+  private long chunksBuilt;
+
+  /**
+   * Creates a cache with the default chunk size and memory budget.
+   *
+   * @param painter paints a tile's grass and walls
+   * @param tileWH tile width and height in pixels
+   * @param rowColAmount size of a bounded maze, or 0 for an endless world
+   */
+  public StaticLayerCache(TilePainter painter, int tileWH, int rowColAmount) {
+    this(painter, tileWH, rowColAmount, DEFAULT_CHUNK_TILES, DEFAULT_MEMORY_BUDGET);
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param painter paints a tile's grass and walls
+   * @param tileWH tile width and height in pixels
+   * @param rowColAmount size of a bounded maze, or 0 for an endless world
+   * @param chunkTiles chunk size in tiles per side
+   * @param memoryBudget approximate bytes of chunk images to keep resident
+   */
+  public StaticLayerCache(
+      TilePainter painter, int tileWH, int rowColAmount, int chunkTiles, long memoryBudget) {
+    if (chunkTiles < 1) {
+      throw new IllegalArgumentException("Chunks need at least 1 tile per side: " + chunkTiles);
+    }
+    this.painter = painter;
+    this.tileWH = tileWH;
+    this.chunkTiles = chunkTiles;
+    this.chunkPixels = chunkTiles * tileWH;
+    this.rowColAmount = rowColAmount;
+    long chunkBytes = 4L * chunkPixels * chunkPixels;
+    this.maxChunks = (int) Math.max(MIN_RESIDENT_CHUNKS, memoryBudget / chunkBytes);
+    this.chunks =
+        new LinkedHashMap<Long, BufferedImage>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > maxChunks;
+          }
+        };
+  }
+
+  /** Returns the chunk size in pixels per side. */
+  public int getChunkPixels() {
+    return chunkPixels;
+  }
+
+  /** Returns the most chunks kept resident under the memory budget. */
+  public int getMaxResidentChunks() {
+    return maxChunks;
+  }
+
+  /** Returns the number of chunk images currently in memory. */
+  public int getResidentChunks() {
+    return chunks.size();
+  }
+
+  /** Returns the total number of chunks painted so far, including repainted ones. */
+  public long getChunksBuilt() {
+    return chunksBuilt;
+  }
+
+  /** Drops every chunk image, e.g. after the maze changes. */
+  public void clear() {
+    chunks.clear();
+  }
+
+  /**
+   * Draws the chunks overlapping the camera's view.
+   *
+   * @param g screen graphics
+   * @param camera the viewport
+   * @return the number of chunk images drawn
+   */
+  public int draw(Graphics g, Camera camera) {
+    int firstRow = camera.firstVisibleRow(chunkPixels);
+    int lastRow = camera.lastVisibleRow(chunkPixels);
+    int firstCol = camera.firstVisibleCol(chunkPixels);
+    int lastCol = camera.lastVisibleCol(chunkPixels);
+    if (rowColAmount > 0) {
+      int lastChunk = (rowColAmount - 1) / chunkTiles;
+      firstRow = Math.max(0, firstRow);
+      firstCol = Math.max(0, firstCol);
+      lastRow = Math.min(lastChunk, lastRow);
+      lastCol = Math.min(lastChunk, lastCol);
+    }
+    int drawn = 0;
+    for (int chunkRow = firstRow; chunkRow <= lastRow; chunkRow++) {
+      int y = camera.toScreenY(chunkRow * chunkPixels);
+      for (int chunkCol = firstCol; chunkCol <= lastCol; chunkCol++) {
+        g.drawImage(chunk(chunkRow, chunkCol), camera.toScreenX(chunkCol * chunkPixels), y, null);
+        drawn++;
+      }
+    }
+    return drawn;
+  }
+
+  /**
+   * Returns a chunk's image, painting it if it is not resident. Its top-left corner is tile {@code
+   * (chunkRow * chunkTiles, chunkCol * chunkTiles)}.
+   *
+   * @param chunkRow chunk row, any sign
+   * @param chunkCol chunk column, any sign
+   * @return the chunk image, {@link #getChunkPixels()} per side
+   */
+  public BufferedImage chunk(int chunkRow, int chunkCol) {
+    Long key = ((long) chunkRow << 32) | (chunkCol & 0xFFFFFFFFL);
+    BufferedImage image = chunks.get(key);
+    if (image == null) {
+      image = paintChunk(chunkRow, chunkCol);
+      chunks.put(key, image);
+    }
+    return image;
+  }
+
+  private BufferedImage paintChunk(int chunkRow, int chunkCol) {
+    int baseRow = chunkRow * chunkTiles;
+    int baseCol = chunkCol * chunkTiles;
+    int rows = chunkTiles;
+    int cols = chunkTiles;
+    if (rowColAmount > 0) {
+      rows = Math.min(chunkTiles, rowColAmount - baseRow);
+      cols = Math.min(chunkTiles, rowColAmount - baseCol);
+    }
+    boolean opaque = rows == chunkTiles && cols == chunkTiles;
+    BufferedImage image = CompatibleImages.create(chunkPixels, chunkPixels, opaque);
+    Graphics2D g = image.createGraphics();
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < cols; c++) {
+        painter.paintTile(g, baseRow + r, baseCol + c, c * tileWH, r * tileWH);
+      }
+    }
+    g.dispose();
+    chunksBuilt++;
+    return image;
+  }
+}
@@ -0,0 +1,170 @@
+package mazegame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Row-at-a-time Eller's algorithm. Only the current row of cells is held in memory: cells in the
+ * same set are already connected through earlier rows, adjacent cells in different sets are
+ * randomly joined, and every set sends at least one passage down into the next row. The last row
+ * joins all remaining sets, giving a perfect maze of any height with state proportional to the
+ * width alone.
+ *
+ * <p>Each finished tile row is pushed to every subscribed {@link MazeRowConsumer}, so the same run
+ * can fill a {@link MazeGrid} and write a file via {@link MazeRowFileWriter} at once.
+ *
+ * <p>Set membership within a row is a small union-find over column indices; a set carried down from
+ * the previous row is labelled with its root column there, fresh cells with {@code cellsWide +
+ * col}.
+ */
+public class StreamingEllerGenerator {
+
+  private final int width;
+  private final int height;
+  private final SplittableRandom rand;
+  private final List<MazeRowConsumer> consumers = new ArrayList<>();
+
+  /**
+   * Creates a generator for a {@code width × height} tile maze.
+   *
+   * @param width odd number of tile columns, at least 3
+   * @param height odd number of tile rows, at least 3
+   * @param rand source of randomness
+   */
+  public StreamingEllerGenerator(int width, int height, SplittableRandom rand) {
+    if (width < 3 || height < 3 || (width & 1) == 0 || (height & 1) == 0) {
+      throw new IllegalArgumentException(
+          "Maze dimensions must be odd and at least 3, got " + width + "x" + height);
+    }
+    this.width = width;
+    this.height = height;
+    this.rand = rand;
+  }
+
+  /**
+   * Adds a consumer that receives every row of the next {@link #generate()} run.
+   *
+   * @param consumer the row consumer
+   * @return this generator, for chaining
+   */
+  public StreamingEllerGenerator subscribe(MazeRowConsumer consumer) {
+    consumers.add(consumer);
+    return this;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * Generates the maze, emitting rows {@code 0 .. height - 1} in order.
+   *
+   * @return the number of passage tiles opened
+   */
+  public long generate() {
+    int cellsWide = (width - 1) / 2;
+    int cellsHigh = (height - 1) / 2;
+    int[] label = new int[cellsWide];
+    int[] parent = new int[cellsWide];
+    int[] remaining = new int[cellsWide];
+    boolean[] sentDown = new boolean[cellsWide];
+    int[] owner = new int[2 * cellsWide];
+    int[] ownerRow = new int[2 * cellsWide];
+    long[] cellRowBits = new long[(width + 63) >>> 6];
+    long[] wallRowBits = new long[cellRowBits.length];
+    long opened = 0;
+
+    for (int col = 0; col < cellsWide; col++) {
+      label[col] = cellsWide + col;
+    }
+    emit(0, wallRowBits);
+
+    for (int cellRow = 0; cellRow < cellsHigh; cellRow++) {
+      boolean lastRow = cellRow == cellsHigh - 1;
+      clear(cellRowBits);
+      clear(wallRowBits);
+
+      // Point every column at the first column carrying the same label
+      for (int col = 0; col < cellsWide; col++) {
+        int l = label[col];
+        if (ownerRow[l] != cellRow + 1) {
+          ownerRow[l] = cellRow + 1;
+          owner[l] = col;
+        }
+        parent[col] = owner[l];
+        set(cellRowBits, col * 2 + 1);
+        opened++;
+      }
+
+      // Horizontal joins; forced on the last row so everything ends up connected
+      for (int col = 0; col < cellsWide - 1; col++) {
+        int left = find(parent, col);
+        int right = find(parent, col + 1);
+        if (left != right && (lastRow || rand.nextBoolean())) {
+          parent[right] = left;
+          set(cellRowBits, col * 2 + 2);
+          opened++;
+        }
+      }
+      emit(cellRow * 2 + 1, cellRowBits);
+      if (lastRow) {
+        break;
+      }
+
+      // Vertical joins: at least one per set, taken at the set's last member if none yet
+      for (int col = 0; col < cellsWide; col++) {
+        remaining[col] = 0;
+        sentDown[col] = false;
+      }
+      for (int col = 0; col < cellsWide; col++) {
+        remaining[find(parent, col)]++;
+      }
+      for (int col = 0; col < cellsWide; col++) {
+        int root = find(parent, col);
+        remaining[root]--;
+        if (rand.nextBoolean() || (remaining[root] == 0 && !sentDown[root])) {
+          sentDown[root] = true;
+          set(wallRowBits, col * 2 + 1);
+          opened++;
+          label[col] = root;
+        } else {
+          label[col] = cellsWide + col;
+        }
+      }
+      emit(cellRow * 2 + 2, wallRowBits);
+    }
+
+    clear(wallRowBits);
+    emit(height - 1, wallRowBits);
+    return opened;
+  }
+
+  private void emit(int row, long[] bits) {
+    for (MazeRowConsumer consumer : consumers) {
+      consumer.acceptRow(row, bits);
+    }
+  }
+
+  private static void set(long[] bits, int col) {
+    bits[col >>> 6] |= 1L << col;
+  }
+
+  private static void clear(long[] bits) {
+    for (int i = 0; i < bits.length; i++) {
+      bits[i] = 0;
+    }
+  }
+
+  private static int find(int[] parent, int i) {
+    while (parent[i] != i) {
+      parent[i] = parent[parent[i]];
+      i = parent[i];
+    }
+    return i;
+  }
+}
@@ -1,7 +1,7 @@
 package mazegame;
 
 import java.awt.Color;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * An exit tile that can be locked or unlocked. The player must collect all required keys before the
@@ -20,10 +20,22 @@ public class TileExit implements Tile {
   private final String passageId;
 
   public TileExit(int tileWH, int xPos, int yPos) {
+    this(tileWH, xPos, yPos, ThreadLocalRandom.current().nextInt(4));
+  }
+
+  /**
+   * Creates a exit tile with a fixed grass variant.
+   *
+   * @param tileWH pixel width/height
+   * @param xPos pixel x-coordinate
+   * @param yPos pixel y-coordinate
+   * @param passageId grass passage variant (0-3)
+   */
+  public TileExit(int tileWH, int xPos, int yPos, int passageId) {
     this.tileWH = tileWH;
     this.xPos = xPos;
     this.yPos = yPos;
-    this.passageId = String.valueOf(new Random().nextInt(4));
+    this.passageId = String.valueOf(passageId);
     setAccessible(false);
   }
 
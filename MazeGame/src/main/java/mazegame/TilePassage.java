@@ -1,7 +1,7 @@
 package mazegame;
 
 import java.awt.Color;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A passable tile in the maze. May optionally hold a key item that the player must collect to
@@ -22,10 +22,22 @@ public class TilePassage implements Tile {
   private final String passageId;
 
   public TilePassage(int tileWH, int xPos, int yPos) {
+    this(tileWH, xPos, yPos, ThreadLocalRandom.current().nextInt(4));
+  }
+
+  /**
+   * Creates a passage tile with a fixed grass variant.
+   *
+   * @param tileWH pixel width/height
+   * @param xPos pixel x-coordinate
+   * @param yPos pixel y-coordinate
+   * @param passageId grass passage variant (0-3)
+   */
+  public TilePassage(int tileWH, int xPos, int yPos, int passageId) {
     this.tileWH = tileWH;
     this.xPos = xPos;
     this.yPos = yPos;
-    this.passageId = String.valueOf(new Random().nextInt(4));
+    this.passageId = String.valueOf(passageId);
     setItem(false);
   }
 
@@ -1,38 +1,104 @@
 package mazegame;
 
 import java.awt.Color;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * An impassable wall tile. Stores which neighbouring tiles are passages (NESW bitmask) for
- * selecting the correct wall sprite.
+ * selecting the correct wall sprite; sprite names come from a table indexed by the mask, so no
+ * strings are built per frame.
  */
 public class TileWall implements Tile {
 
+  /** NESW bit strings ("0000" to "1111") indexed by neighbour mask. */
+  private static final String[] NEIGHBOUR_BITS = new String[16];
+
+  /** Sprite names ("wall_0000" to "wall_1111") indexed by neighbour mask. */
+  private static final String[] IMAGE_IDS = new String[16];
+
+  static {
+    for (int mask = 0; mask < NEIGHBOUR_BITS.length; mask++) {
+      NEIGHBOUR_BITS[mask] =
+          "" + ((mask >> 3) & 1) + ((mask >> 2) & 1) + ((mask >> 1) & 1) + (mask & 1);
+      IMAGE_IDS[mask] = "wall_" + NEIGHBOUR_BITS[mask];
+    }
+  }
+
   private final int tileWH;
   private Color color;
   private int xPos;
   private int yPos;
-  private String neighbours;
+  private byte neighbours;
   private final String passageId;
 
   public TileWall(int tileWH, int xPos, int yPos) {
+    this(tileWH, xPos, yPos, ThreadLocalRandom.current().nextInt(4));
+  }
+
+  /**
+   * Creates a wall tile with a fixed grass variant.
+   *
+   * @param tileWH pixel width/height
+   * @param xPos pixel x-coordinate
+   * @param yPos pixel y-coordinate
+   * @param passageId grass passage variant (0-3)
+   */
+  public TileWall(int tileWH, int xPos, int yPos, int passageId) {
     this.tileWH = tileWH;
     this.xPos = xPos;
     this.yPos = yPos;
-    this.neighbours = "0000";
+    this.neighbours = 0;
     this.color = Color.CYAN;
-    this.passageId = String.valueOf(new Random().nextInt(4));
+    this.passageId = String.valueOf(passageId);
   }
 
+  /**
+   * Sets the neighbours from a NESW bit string such as {@code "1010"}.
+   *
+   * @param bits four binary digits
+   */
   public void setPassageNeighbours(String bits) {
-    neighbours = bits;
+    neighbours = (byte) (Integer.parseInt(bits, 2) & 0x0F);
   }
 
-  public String getPassageNeighbours() {
+  /**
+   * Sets the neighbours from a {@link MazeGrid} wall mask.
+   *
+   * @param mask NESW bitmask (0-15)
+   */
+  public void setNeighbourMask(int mask) {
+    neighbours = (byte) (mask & 0x0F);
+  }
+
+  /** Returns the NESW neighbour mask (0-15). */
+  public int getNeighbourMask() {
     return neighbours;
   }
 
+  /**
+   * Returns the NESW bit string for a wall mask, e.g. {@code 0b1010 -> "1010"}.
+   *
+   * @param mask NESW bitmask (0-15)
+   * @return the four-character bit string
+   */
+  public static String neighbourBits(int mask) {
+    return NEIGHBOUR_BITS[mask & 0x0F];
+  }
+
+  /**
+   * Returns the sprite name for a wall mask, e.g. {@code 0b1010 -> "wall_1010"}.
+   *
+   * @param mask NESW bitmask (0-15)
+   * @return the preloaded image key
+   */
+  public static String imageId(int mask) {
+    return IMAGE_IDS[mask & 0x0F];
+  }
+
+  public String getPassageNeighbours() {
+    return NEIGHBOUR_BITS[neighbours];
+  }
+
   @Override
   public void setColor(Color c) {
     color = c;
@@ -80,7 +146,7 @@ public class TileWall implements Tile {
 
   @Override
   public String getImageString() {
-    return "wall_" + neighbours;
+    return IMAGE_IDS[neighbours];
   }
 
   @Override
@@ -2,14 +2,14 @@ package mazegame;
 
 /**
  * A square grid of {@link Tile} objects. Initialises all cells as {@link TileWall} — the maze
- * generator then carves passages.
+ * generator then carves passages. Also builds on-demand {@link Tile} views over a {@link MazeGrid}.
  */
 public class Tilemap {
 
   private final int tileWH;
   private final int tileBorderSize;
   private final int rowColAmount;
-  private final Tile[][] tiles;
+  private Tile[][] tiles;
 
   /**
    * Creates a new tilemap grid.
@@ -22,7 +22,6 @@ public class Tilemap {
     this.tileWH = tileWH;
     this.tileBorderSize = tileWH - tileBorder;
     this.rowColAmount = rowColAmount;
-    this.tiles = new Tile[rowColAmount][rowColAmount];
   }
 
   /**
@@ -31,6 +30,7 @@ public class Tilemap {
    * @return the initialised 2D tile array
    */
   public Tile[][] getTileArr() {
+    tiles = new Tile[rowColAmount][rowColAmount];
     int yCoord = 0;
     for (int row = 0; row < rowColAmount; row++) {
       int xCoord = 0;
@@ -43,6 +43,59 @@ public class Tilemap {
     return tiles;
   }
 
+  /**
+   * Materialises a full tile array from a maze grid. Every element is a fresh view, so this is
+   * intended for small grids, tests and tooling rather than the render loop.
+   *
+   * @param grid the maze grid
+   * @return a {@code [row][col]} tile array mirroring the grid
+   */
+  public Tile[][] getTileArr(MazeGrid grid) {
+    int size = grid.getRowColAmount();
+    tiles = new Tile[size][size];
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        tiles[row][col] = getTile(grid, row, col);
+      }
+    }
+    return tiles;
+  }
+
+  /**
+   * Creates a {@link Tile} view of a single grid cell, positioned at its untranslated pixel
+   * coordinates.
+   *
+   * @param grid the maze grid
+   * @param row the cell row
+   * @param col the cell column
+   * @return a {@link TileWall}, {@link TilePassage} or {@link TileExit} reflecting the cell
+   */
+  public Tile getTile(MazeGrid grid, int row, int col) {
+    int x = col * tileWH;
+    int y = row * tileWH;
+    int grass = grid.getGrassVariant(row, col);
+
+    if (grid.isExit(row, col)) {
+      TileExit exit = new TileExit(tileBorderSize, x, y, grass);
+      exit.setRowNo(row);
+      exit.setColNo(col);
+      return exit;
+    }
+    if (grid.isPassage(row, col)) {
+      TilePassage passage = new TilePassage(tileBorderSize, x, y, grass);
+      passage.setRowNo(row);
+      passage.setColNo(col);
+      passage.setItem(grid.hasKey(row, col));
+      if (grid.isExplored(row, col)) {
+        passage.setPlayerExplored(true);
+      }
+      return passage;
+    }
+    TileWall wall = new TileWall(tileBorderSize, x, y, grass);
+    wall.setNeighbourMask(grid.getWallMask(row, col));
+    return wall;
+  }
+
   /**
    * Counts the number of {@link TilePassage} tiles in the given grid.
    *
@@ -69,18 +122,31 @@ public class Tilemap {
    * @return a two-element array {@code [row, col]}, or {@code null} if out of bounds
    */
   public int[] getCurrentTile(int playerX, int playerY) {
-    int tileRow = 0;
-    for (int y = 0; y < rowColAmount * tileWH; y += tileWH) {
-      int tileCol = 0;
-      for (int x = 0; x < rowColAmount * tileWH; x += tileWH) {
-        if (playerY >= y && playerY <= y + tileWH && playerX >= x && playerX <= x + tileWH) {
-          return new int[] {tileRow, tileCol};
-        }
-        tileCol++;
-      }
-      tileRow++;
+    int tile = tileIndex(playerX, playerY, tileWH, rowColAmount);
+    return tile < 0 ? null : new int[] {tile / rowColAmount, tile % rowColAmount};
+  }
+
+  /**
+   * Returns the tile under a point by floor division, packed as {@code row * rowColAmount + col}.
+   * Tile {@code (row, col)} covers {@code [col * tileWH, (col + 1) * tileWH)} horizontally and
+   * likewise vertically. Constant time and allocation-free.
+   *
+   * @param x maze-space x-coordinate
+   * @param y maze-space y-coordinate
+   * @param tileWH pixel width/height of each tile
+   * @param rowColAmount number of rows and columns
+   * @return the packed tile index, or -1 outside the grid
+   */
+  static int tileIndex(int x, int y, int tileWH, int rowColAmount) {
+    if (x < 0 || y < 0) {
+      return -1;
+    }
+    int row = y / tileWH;
+    int col = x / tileWH;
+    if (row >= rowColAmount || col >= rowColAmount) {
+      return -1;
     }
-    return null;
+    return row * rowColAmount + col;
   }
 
   /** Returns the pixel width/height of each tile. */
@@ -0,0 +1,91 @@
+package mazegame;
+
+import java.util.Arrays;
+
+/**
+ * Per-cell triggers, fired when the player enters a cell. Each kind of trigger (a key, the bone,
+ * the exit, ...) is a {@link Handler} registered once per level; the table keeps one {@code byte}
+ * per packed cell ({@code row * rowColAmount + col}) with a bit for each kind placed there.
+ * Entering a cell without triggers is a single array read, and a handler runs once per entry rather
+ * than on every collision probe.
+ *
+ * <p>New item types only need a new kind: register a handler and {@link #add(int, int)} its cells.
+ */
+public class TriggerTable {
+
+  /** Reacts to the player entering a cell that holds this trigger kind. */
+  public interface Handler {
+
+    /**
+     * Called when the player enters the cell.
+     *
+     * @param cell packed cell index
+     */
+    void onEnter(int cell);
+  }
+
+  /** Maximum number of trigger kinds, one bit each. */
+  public static final int MAX_KINDS = 8;
+
+  private final byte[] kinds;
+  private final Handler[] handlers = new Handler[MAX_KINDS];
+  private int kindCount;
+
+  /**
+   * Creates an empty table for a square grid.
+   *
+   * @param rowColAmount number of rows and columns
+   */
+  public TriggerTable(int rowColAmount) {
+    kinds = new byte[rowColAmount * rowColAmount];
+  }
+
+  /**
+   * Registers a trigger kind.
+   *
+   * @param handler what happens when a cell holding this kind is entered
+   * @return the kind, for {@link #add(int, int)} and {@link #remove(int, int)}
+   * @throws IllegalStateException if {@link #MAX_KINDS} kinds are already registered
+   */
+  public int register(Handler handler) {
+    if (kindCount == MAX_KINDS) {
+      throw new IllegalStateException("At most " + MAX_KINDS + " trigger kinds");
+    }
+    handlers[kindCount] = handler;
+    return kindCount++;
+  }
+
+  /** Places a trigger of this kind on the cell. */
+  public void add(int kind, int cell) {
+    kinds[cell] |= (byte) (1 << kind);
+  }
+
+  /** Removes a trigger of this kind from the cell, if present. */
+  public void remove(int kind, int cell) {
+    kinds[cell] &= (byte) ~(1 << kind);
+  }
+
+  /** Returns true if a trigger of this kind is on the cell. */
+  public boolean has(int kind, int cell) {
+    return (kinds[cell] & (1 << kind)) != 0;
+  }
+
+  /** Removes every trigger; registered kinds are kept. */
+  public void clear() {
+    Arrays.fill(kinds, (byte) 0);
+  }
+
+  /**
+   * Fires the handlers of every trigger kind on the cell, lowest kind first.
+   *
+   * @param cell packed index of the cell being entered
+   */
+  public void enter(int cell) {
+    int bits = kinds[cell] & 0xFF;
+    while (bits != 0) {
+      int kind = Integer.numberOfTrailingZeros(bits);
+      bits &= bits - 1;
+      handlers[kind].onEnter(cell);
+    }
+  }
+}
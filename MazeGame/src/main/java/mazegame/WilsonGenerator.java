@@ -0,0 +1,82 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+
+/**
+ * Wilson's algorithm. Each cell not yet in the maze starts a random walk that ends when it touches
+ * the maze; the loop-erased walk is then carved in. Loop erasure is implicit: the walk only records
+ * the last direction taken out of each cell, so following those pointers from the walk's origin
+ * yields the loop-free path. Produces a uniform spanning tree (every maze equally likely), but the
+ * first walks are slow on large grids because the maze starts as a single cell.
+ */
+public class WilsonGenerator implements MazeGenerator {
+
+  @Override
+  public String getName() {
+    return "wilson";
+  }
+
+  @Override
+  public int carve(MazeStorage maze, int startRow, int startCol, SplittableRandom rand) {
+    int cellsPerRow = maze.getCellsPerRow();
+    int cells = cellsPerRow * cellsPerRow;
+    int[] exitTo = new int[cells];
+
+    maze.openCell((startRow / 2) * cellsPerRow + (startCol / 2));
+    int opened = 1;
+
+    for (int origin = 0; origin < cells; origin++) {
+      if (maze.isCellOpen(origin)) {
+        continue;
+      }
+
+      // Random walk until the maze is hit, remembering the last exit from every cell
+      int current = origin;
+      while (!maze.isCellOpen(current)) {
+        int next = randomNeighbour(current, cellsPerRow, rand);
+        exitTo[current] = next;
+        current = next;
+      }
+
+      // Carve the loop-erased path; the end cell is already part of the maze
+      int end = current;
+      current = origin;
+      while (current != end) {
+        int next = exitTo[current];
+        maze.openBetween(current, next);
+        opened += 2;
+        current = next;
+      }
+    }
+    return opened;
+  }
+
+  private static int randomNeighbour(int cell, int cellsPerRow, SplittableRandom rand) {
+    int cellRow = cell / cellsPerRow;
+    int cellCol = cell - cellRow * cellsPerRow;
+    while (true) {
+      switch (rand.nextInt(4)) {
+        case 0:
+          if (cellRow > 0) {
+            return cell - cellsPerRow;
+          }
+          break;
+        case 1:
+          if (cellCol < cellsPerRow - 1) {
+            return cell + 1;
+          }
+          break;
+        case 2:
+          if (cellRow < cellsPerRow - 1) {
+            return cell + cellsPerRow;
+          }
+          break;
+        default:
+          if (cellCol > 0) {
+            return cell - 1;
+          }
+          break;
+      }
+    }
+  }
+}
@@ -2,6 +2,7 @@ package mazegame;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -136,4 +137,51 @@ class AssetManagerTest {
     // Should return a key frame image
     assertNotNull(am.getKeyFrame());
   }
+
+  @Test
+  @DisplayName("Sprite ids resolve to the same pixels as the named images")
+  void spriteIdsMatchNamedImages() throws IOException {
+    AssetManager am = new AssetManager();
+    am.preloadImages();
+    SpriteAtlas atlas = am.getAtlas();
+
+    BufferedImage wall = am.getPreloadedImage(TileWall.imageId(0b1010));
+    assertSamePixels(wall, atlas.getImage(am.getWallSprite(0b1010)));
+    assertSamePixels(am.getPreloadedImage("GrassPassage_3"), atlas.getImage(am.getGrassSprite(3)));
+    assertSamePixels(am.getPreloadedImage("Open Exit"), atlas.getImage(am.getExitSprite(true)));
+
+    int[] east = am.getDogSprites(GameSettings.DogSkin.SASSO, AssetManager.EAST);
+    assertEquals(7, east.length);
+    assertSamePixels(am.getPreloadedImage("sassoEast6"), atlas.getImage(east[6]));
+    assertEquals(6, am.getDogSprites(GameSettings.DogSkin.WESLEY, AssetManager.NORTH).length);
+  }
+
+  @Test
+  @DisplayName("Scaled atlases are cached per size and share sprite ids")
+  void scaledAtlasPerSize() throws IOException {
+    AssetManager am = new AssetManager();
+    am.preloadImages();
+
+    SpriteAtlas tiles = am.getScaledAtlas(100);
+    assertSame(tiles, am.getScaledAtlas(100));
+    assertNotSame(tiles, am.getScaledAtlas(64));
+    assertEquals(am.getAtlas().size(), tiles.size());
+
+    BufferedImage wall = am.getPreloadedImage(TileWall.imageId(0b0101));
+    BufferedImage scaled = tiles.getImage(am.getWallSprite(0b0101));
+    assertEquals(100, scaled.getWidth());
+    // 32 px scaled to 100: destination pixel 99 samples source pixel 31
+    assertEquals(wall.getRGB(31, 0), scaled.getRGB(99, 0));
+    assertEquals(wall.getRGB(0, 31), scaled.getRGB(0, 99));
+  }
+
+  private static void assertSamePixels(BufferedImage expected, BufferedImage actual) {
+    assertEquals(expected.getWidth(), actual.getWidth());
+    assertEquals(expected.getHeight(), actual.getHeight());
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "pixel " + x + "," + y);
+      }
+    }
+  }
 }
@@ -0,0 +1,83 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoxColliderTest {
+
+  private static final int TILE = 100;
+
+  /** Tiles from strings, '#' for wall; records entered tiles as "row,col". */
+  private static final class Grid implements BoxCollider.Tiles {
+    final String[] rows;
+    final List<String> entered = new ArrayList<>();
+
+    Grid(String... rows) {
+      this.rows = rows;
+    }
+
+    @Override
+    public boolean isBlocked(int row, int col) {
+      return row < 0
+          || row >= rows.length
+          || col < 0
+          || col >= rows[row].length()
+          || rows[row].charAt(col) == '#';
+    }
+
+    @Override
+    public void enter(int row, int col) {
+      entered.add(row + "," + col);
+    }
+  }
+
+  @Test
+  @DisplayName("A step longer than the corridor stops flush against the first wall")
+  void noTunnelling() {
+    Grid grid = new Grid("#######", "#...#.#", "#######");
+    // 50px box in tile (1, 1); the wall is column 4, whose left edge is x = 400
+    int moved = BoxCollider.sweepX(grid, TILE, 125, 125, 50, 50, 1000);
+    assertEquals(400 - 175, moved);
+    assertEquals(List.of("1,2", "1,3"), grid.entered);
+
+    assertEquals(0, BoxCollider.sweepX(grid, TILE, 350, 125, 50, 50, 8));
+    assertEquals(-(125 - 100), BoxCollider.sweepX(grid, TILE, 125, 125, 50, 50, -8000));
+  }
+
+  @Test
+  @DisplayName("A tile is entered once, when the box first overlaps it")
+  void enteredOnce() {
+    Grid grid = new Grid("#####", "#...#", "#####");
+    // Leading edge moves from x = 174 to 199, still inside column 1
+    assertEquals(25, BoxCollider.sweepX(grid, TILE, 125, 125, 50, 50, 25));
+    assertTrue(grid.entered.isEmpty());
+    assertEquals(1, BoxCollider.sweepX(grid, TILE, 150, 125, 50, 50, 1));
+    assertEquals(List.of("1,2"), grid.entered);
+    assertEquals(8, BoxCollider.sweepX(grid, TILE, 151, 125, 50, 50, 8));
+    assertEquals(List.of("1,2"), grid.entered);
+  }
+
+  @Test
+  @DisplayName("A box straddling two rows is blocked by a wall in either")
+  void straddlingBox() {
+    Grid grid = new Grid("#####", "#...#", "#..##", "#####");
+    // Rows 1 and 2 (y = 180 .. 229); column 3 is open in row 1 only
+    assertEquals(300 - 275, BoxCollider.sweepX(grid, TILE, 225, 180, 50, 50, 100));
+    // Aligned with row 1 it passes, up to the wall in column 4
+    assertEquals(400 - 275, BoxCollider.sweepX(grid, TILE, 225, 125, 50, 50, 200));
+  }
+
+  @Test
+  @DisplayName("Vertical sweeps use rows the way horizontal ones use columns")
+  void vertical() {
+    Grid grid = new Grid("###", "#.#", "#.#", "#.#", "###");
+    assertEquals(400 - 175, BoxCollider.sweepY(grid, TILE, 125, 125, 50, 50, 500));
+    assertEquals(List.of("2,1", "3,1"), grid.entered);
+    assertEquals(-(325 - 100), BoxCollider.sweepY(grid, TILE, 125, 325, 50, 50, -500));
+    assertEquals(0, BoxCollider.sweepY(grid, TILE, 125, 125, 50, 50, 0));
+  }
+}
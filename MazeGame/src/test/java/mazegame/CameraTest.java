@@ -0,0 +1,50 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CameraTest {
+
+  @Test
+  @DisplayName("Centring puts the world point in the middle of the view")
+  void centerOn() {
+    Camera camera = new Camera(650, 650);
+    camera.centerOn(300, 100);
+    assertEquals(300 - 325, camera.getX());
+    assertEquals(100 - 325, camera.getY());
+    assertEquals(325, camera.toScreenX(300));
+    assertEquals(325, camera.toScreenY(100));
+  }
+
+  @Test
+  @DisplayName("Moving shifts world-to-screen mapping by the step")
+  void move() {
+    Camera camera = new Camera(400, 300);
+    camera.move(15, -5);
+    assertEquals(-15, camera.toScreenX(0));
+    assertEquals(5, camera.toScreenY(0));
+  }
+
+  @Test
+  @DisplayName("Visible range covers partly visible tiles, including negative ones")
+  void visibleRange() {
+    Camera camera = new Camera(650, 650);
+    camera.move(-50, 120);
+    assertEquals(-1, camera.firstVisibleCol(100));
+    assertEquals(5, camera.lastVisibleCol(100)); // x = -50 .. 599
+    assertEquals(1, camera.firstVisibleRow(100));
+    assertEquals(7, camera.lastVisibleRow(100)); // y = 120 .. 769
+    assertEquals(2, camera.centerCol(100)); // x = 275
+    assertEquals(4, camera.centerRow(100)); // y = 445
+  }
+
+  @Test
+  @DisplayName("Tiles exactly at the view edge are excluded")
+  void edgeTilesExcluded() {
+    Camera camera = new Camera(600, 600);
+    assertEquals(0, camera.firstVisibleCol(100));
+    assertEquals(5, camera.lastVisibleCol(100));
+  }
+}
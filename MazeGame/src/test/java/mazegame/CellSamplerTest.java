@@ -0,0 +1,73 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CellSamplerTest {
+
+  // ─── CellSampler ──────────────────────────────────────────────────
+
+  @Test
+  @DisplayName("Draws every candidate exactly once, then -1")
+  void drawsEachCandidateOnce() {
+    int[] cells = new int[50];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = i * 3;
+    }
+    CellSampler sampler = new CellSampler(cells, 40);
+    SplittableRandom rand = new SplittableRandom(1);
+
+    Set<Integer> seen = new HashSet<>();
+    for (int i = 0; i < 40; i++) {
+      assertEquals(40 - i, sampler.remaining());
+      int cell = sampler.draw(rand);
+      assertTrue(cell % 3 == 0 && cell < 120, "Only the first 40 entries are candidates");
+      assertTrue(seen.add(cell), "Duplicate draw " + cell);
+    }
+    assertEquals(0, sampler.remaining());
+    assertEquals(-1, sampler.draw(rand));
+  }
+
+  @Test
+  @DisplayName("First draw is roughly uniform")
+  void firstDrawIsUniform() {
+    int[] counts = new int[4];
+    SplittableRandom rand = new SplittableRandom(2);
+    for (int i = 0; i < 4000; i++) {
+      counts[new CellSampler(new int[] {0, 1, 2, 3}, 4).draw(rand)]++;
+    }
+    for (int count : counts) {
+      assertTrue(count > 850 && count < 1150, "Skewed count " + count);
+    }
+  }
+
+  // ─── DistanceField ────────────────────────────────────────────────
+
+  @Test
+  @DisplayName("Distances follow passages and are capped at the limit")
+  void distanceFollowsPassages() {
+    // A single corridor along row 1: (1,1) .. (1,5)
+    MazeGrid grid = new MazeGrid(7);
+    for (int c = 1; c <= 5; c++) {
+      grid.setPassage(1, c);
+    }
+    DistanceField field = new DistanceField(grid, 3);
+    field.addSource(1, 1);
+
+    assertEquals(0, field.get(1, 1));
+    assertEquals(1, field.get(1, 2));
+    assertEquals(2, field.get(1, 3));
+    assertEquals(3, field.get(1, 4), "Capped at the limit");
+    assertTrue(field.isClear(1, 4));
+    assertFalse(field.isClear(1, 3));
+    assertEquals(3, field.get(2, 2), "Walls are never reached");
+
+    field.addSource(1, 5);
+    assertEquals(1, field.get(1, 4), "Nearest source wins");
+  }
+}
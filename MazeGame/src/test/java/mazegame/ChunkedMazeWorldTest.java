@@ -0,0 +1,136 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChunkedMazeWorldTest {
+
+  private static final int CHUNK_CELLS = 8;
+
+  private static ChunkedMazeWorld world(long seed, long budget) {
+    return new ChunkedMazeWorld(
+        seed, CHUNK_CELLS, budget, MazeGenerators.byName(MazeGenerators.DEFAULT));
+  }
+
+  // ─── Shape ────────────────────────────────────────────────────────
+
+  @Test
+  @DisplayName("Every cell in a block of whole chunks is reachable, across negative coordinates")
+  void chunksAreConnected() {
+    ChunkedMazeWorld world = world(7L, ChunkedMazeWorld.DEFAULT_MEMORY_BUDGET);
+    int tiles = world.getChunkTiles();
+    int min = -2 * tiles;
+    int max = 2 * tiles; // Exclusive
+    int span = max - min;
+
+    boolean[] seen = new boolean[span * span];
+    int[] queue = new int[span * span];
+    int head = 0;
+    int tail = 0;
+    seen[(1 - min) * span + (1 - min)] = true;
+    queue[tail++] = (1 - min) * span + (1 - min);
+    while (head < tail) {
+      int index = queue[head++];
+      int r = index / span + min;
+      int c = index % span + min;
+      int[][] steps = {{r - 1, c}, {r + 1, c}, {r, c - 1}, {r, c + 1}};
+      for (int[] s : steps) {
+        if (s[0] >= min && s[0] < max && s[1] >= min && s[1] < max) {
+          int next = (s[0] - min) * span + (s[1] - min);
+          if (!seen[next] && world.isPassage(s[0], s[1])) {
+            seen[next] = true;
+            queue[tail++] = next;
+          }
+        }
+      }
+    }
+
+    for (int r = min + 1; r < max; r += 2) {
+      for (int c = min + 1; c < max; c += 2) {
+        assertTrue(seen[(r - min) * span + (c - min)], "Cell " + r + "," + c + " unreachable");
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Wall masks agree with neighbouring tiles, including on chunk edges")
+  void wallMasksMatchNeighbours() {
+    ChunkedMazeWorld world = world(3L, ChunkedMazeWorld.DEFAULT_MEMORY_BUDGET);
+    int tiles = world.getChunkTiles();
+    for (int r = -tiles; r < tiles; r++) {
+      for (int c = -tiles; c < tiles; c++) {
+        if (world.isPassage(r, c)) {
+          continue;
+        }
+        int expected = 0;
+        if (world.isPassage(r - 1, c)) expected |= MazeGrid.NORTH;
+        if (world.isPassage(r, c + 1)) expected |= MazeGrid.EAST;
+        if (world.isPassage(r + 1, c)) expected |= MazeGrid.SOUTH;
+        if (world.isPassage(r, c - 1)) expected |= MazeGrid.WEST;
+        assertEquals(expected, world.getWallMask(r, c), "Mask at " + r + "," + c);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Tile views reflect the world")
+  void tileViews() {
+    ChunkedMazeWorld world = world(5L, ChunkedMazeWorld.DEFAULT_MEMORY_BUDGET);
+    Tile cell = world.getTile(1, 1, 50);
+    assertTrue(cell instanceof TilePassage);
+    assertEquals(50, cell.getMinX());
+    assertTrue(world.getTile(0, 0, 50) instanceof TileWall, "Chunk corners are always walls");
+  }
+
+  // ─── Determinism and eviction ─────────────────────────────────────
+
+  @Test
+  @DisplayName("Same seed builds the same world, even after chunks are evicted and rebuilt")
+  void deterministicAcrossEviction() {
+    ChunkedMazeWorld reference = world(11L, ChunkedMazeWorld.DEFAULT_MEMORY_BUDGET);
+    ChunkedMazeWorld small = world(11L, 0);
+    int tiles = small.getChunkTiles();
+
+    // Walk far enough to push the first chunks out of the small world
+    for (int chunk = 0; chunk < 30; chunk++) {
+      small.prefetchAround(tiles / 2, chunk * tiles);
+    }
+    assertTrue(small.getChunksEvicted() > 0);
+
+    for (int r = -tiles; r < tiles; r++) {
+      for (int c = -tiles; c < 3 * tiles; c++) {
+        assertEquals(reference.isPassage(r, c), small.isPassage(r, c), r + "," + c);
+        assertEquals(reference.getGrassVariant(r, c), small.getGrassVariant(r, c));
+      }
+    }
+    assertNotEquals(
+        reference.getChunksGenerated(), small.getChunksGenerated(), "Small world regenerated");
+  }
+
+  @Test
+  @DisplayName("Resident chunks stay within the budget but never below a 3x3 block")
+  void residentChunksFollowBudget() {
+    ChunkedMazeWorld tiny = world(1L, 0);
+    assertEquals(ChunkedMazeWorld.MIN_RESIDENT_CHUNKS, tiny.getMaxResidentChunks());
+
+    ChunkedMazeWorld sized = world(1L, 20 * world(1L, 0).getChunkBytes());
+    assertEquals(20, sized.getMaxResidentChunks());
+
+    int tiles = sized.getChunkTiles();
+    for (int step = 0; step < 100; step++) {
+      sized.prefetchAround(step * tiles, step * tiles);
+      assertTrue(sized.getResidentChunks() <= 20);
+    }
+    assertEquals(sized.getChunksGenerated() - sized.getResidentChunks(), sized.getChunksEvicted());
+  }
+
+  @Test
+  @DisplayName("Chunks smaller than two cells are rejected")
+  void rejectsTinyChunks() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ChunkedMazeWorld(0L, 1, 0, MazeGenerators.byName(MazeGenerators.DEFAULT)));
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -19,7 +20,7 @@ class GameLoopTest {
     volatile int pauseFrameCount;
 
     @Override
-    public void onUpdate() {
+    public void onUpdate(long elapsedNanos) {
       updateCount++;
     }
 
@@ -128,4 +129,47 @@ class GameLoopTest {
     assertTrue(latch.await(2, TimeUnit.SECONDS), "onComplete should have been called");
     assertFalse(loop.isRunning());
   }
+
+  @Test
+  @DisplayName("Updates receive the elapsed play time, which adds up to wall time")
+  void updatesAreDeltaTimed() throws Exception {
+    AtomicLong simulated = new AtomicLong();
+    AtomicLong longest = new AtomicLong();
+    CountDownLatch done = new CountDownLatch(1);
+    StubCallbacks cb =
+        new StubCallbacks() {
+          @Override
+          public void onUpdate(long elapsedNanos) {
+            simulated.addAndGet(elapsedNanos);
+            longest.accumulateAndGet(elapsedNanos, Math::max);
+            super.onUpdate(elapsedNanos);
+          }
+
+          @Override
+          public void onRender() {
+            super.onRender();
+            if (renderCount == 10) {
+              gameInProgress = false;
+            }
+          }
+        };
+    GameLoop loop = new GameLoop(cb, 120, 120);
+    loop.setOnComplete(done::countDown);
+    long start = System.nanoTime();
+    loop.start();
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    long wall = System.nanoTime() - start;
+    assertTrue(cb.updateCount > 0, "updates ran");
+    assertTrue(simulated.get() <= wall, "simulated " + simulated + " ns of " + wall);
+    assertTrue(longest.get() <= 250_000_000L, "steps are capped");
+  }
+
+  @Test
+  @DisplayName("Rates must be positive")
+  void ratesMustBePositive() {
+    StubCallbacks cb = new StubCallbacks();
+    assertThrows(IllegalArgumentException.class, () -> new GameLoop(cb, 0, 60));
+    assertThrows(IllegalArgumentException.class, () -> new GameLoop(cb, 60, -1));
+  }
 }
@@ -146,4 +146,40 @@ class GameSettingsTest {
   void sassoUnlockThresholdIsTen() {
     assertEquals(10, GameSettings.SASSO_UNLOCK_BONES);
   }
+
+  @Test
+  @DisplayName("Render and simulation rates default to the game loop's and are clamped")
+  void ratesDefaultAndClamp() {
+    GameSettings s = new GameSettings();
+    assertEquals(GameLoop.DEFAULT_RENDER_RATE, s.getRenderRate());
+    assertEquals(GameLoop.DEFAULT_SIMULATION_RATE, s.getSimulationRate());
+
+    s.setRenderRate(144);
+    s.setSimulationRate(120);
+    assertEquals(144, s.getRenderRate());
+    assertEquals(120, s.getSimulationRate());
+
+    s.setRenderRate(0);
+    s.setSimulationRate(10_000);
+    assertEquals(15, s.getRenderRate());
+    assertEquals(240, s.getSimulationRate());
+  }
+
+  @Test
+  @DisplayName("Starting rates can be set with system properties")
+  void ratesFromSystemProperties() {
+    System.setProperty(GameSettings.RENDER_RATE_PROPERTY, "144");
+    System.setProperty(GameSettings.SIMULATION_RATE_PROPERTY, "not a number");
+    try {
+      GameSettings s = new GameSettings();
+      assertEquals(144, s.getRenderRate());
+      assertEquals(GameLoop.DEFAULT_SIMULATION_RATE, s.getSimulationRate());
+
+      System.setProperty(GameSettings.SIMULATION_RATE_PROPERTY, "1000");
+      assertEquals(240, new GameSettings().getSimulationRate());
+    } finally {
+      System.clearProperty(GameSettings.RENDER_RATE_PROPERTY);
+      System.clearProperty(GameSettings.SIMULATION_RATE_PROPERTY);
+    }
+  }
 }
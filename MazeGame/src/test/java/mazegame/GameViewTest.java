@@ -0,0 +1,38 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameViewTest {
+
+  @Test
+  @DisplayName("Headless runs fall back to the Swing panel")
+  void headlessUsesPanel() {
+    GameView view = GameView.create();
+    assertInstanceOf(GamePanel.class, view);
+    assertSame(view, view.getComponent());
+  }
+
+  @Test
+  @DisplayName("The panel draws frames into an opaque buffer at the logical size")
+  void panelFrames() {
+    GamePanel panel = new GamePanel();
+    Graphics g = panel.beginFrame(40, 30);
+    g.setColor(Color.RED);
+    g.fillRect(0, 0, 40, 30);
+    g.dispose();
+    panel.showFrame(); // zero-size panel: nothing to paint, must not throw
+
+    BufferedImage target = new BufferedImage(80, 80, BufferedImage.TYPE_INT_RGB);
+    panel.setSize(80, 80);
+    panel.paint(target.getGraphics());
+    // 40x30 scaled by 2 to 80x60 and letterboxed by 10 px above and below
+    assertEquals(Color.BLACK.getRGB(), target.getRGB(40, 5));
+    assertEquals(Color.RED.getRGB(), target.getRGB(40, 40));
+  }
+}
@@ -0,0 +1,158 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GenerateMazesTest {
+
+  private static String[] args(String... values) {
+    return values;
+  }
+
+  private static int run(String[] args, ByteArrayOutputStream out) {
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+    return GenerateMazes.run(args, new PrintStream(out, true), new PrintStream(err, true));
+  }
+
+  @Test
+  @DisplayName("Reports throughput and latency")
+  void reportsStats() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int code = run(args("--count", "8", "--size", "31", "--threads", "2", "--seed", "1"), out);
+
+    String report = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertEquals(0, code);
+    assertTrue(report.contains("mazes/sec"), report);
+    assertTrue(report.contains("cells/sec"), report);
+    assertTrue(report.contains("p99"), report);
+  }
+
+  @Test
+  @DisplayName("PNG output decodes to the maze layout")
+  void writesPng(@TempDir File dir) throws IOException {
+    int code =
+        run(
+            args(
+                "--count",
+                "3",
+                "--size",
+                "21",
+                "--seed",
+                "4",
+                "--format",
+                "png",
+                "--out",
+                dir.getPath()),
+            new ByteArrayOutputStream());
+    assertEquals(0, code);
+
+    File[] files = dir.listFiles((d, name) -> name.endsWith(".png"));
+    assertEquals(3, files.length);
+    for (File file : files) {
+      long seed = Long.parseUnsignedLong(file.getName().replaceAll(".*-|\\.png", ""), 16);
+      RecursiveBacktracker expected = new RecursiveBacktracker(1, 0, 21, seed);
+      MazeGrid grid = expected.generate();
+
+      BufferedImage img = ImageIO.read(file);
+      assertEquals(21, img.getWidth());
+      assertEquals(21, img.getHeight());
+      for (int r = 0; r < 21; r++) {
+        for (int c = 0; c < 21; c++) {
+          int shade = img.getRaster().getSample(c, r, 0);
+          int want =
+              grid.isExit(r, c)
+                  ? MazePngWriter.EXIT_SHADE
+                  : grid.isPassage(r, c) ? MazePngWriter.PASSAGE_SHADE : MazePngWriter.WALL_SHADE;
+          assertEquals(want, shade, file.getName() + " at " + r + "," + c);
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Binary output is readable by the maze cache")
+  void writesBinary(@TempDir File dir) {
+    int code =
+        run(
+            args(
+                "--count",
+                "2",
+                "--size",
+                "25",
+                "--algorithm",
+                "kruskal",
+                "--format",
+                "bin",
+                "--out",
+                dir.getPath()),
+            new ByteArrayOutputStream());
+    assertEquals(0, code);
+
+    File[] files = dir.listFiles((d, name) -> name.endsWith(".maze"));
+    assertEquals(2, files.length);
+    MazeCache cache = new MazeCache(dir);
+    for (File file : files) {
+      long seed = Long.parseUnsignedLong(file.getName().replaceAll(".*-|\\.maze", ""), 16);
+      assertNotNull(cache.load(1, 0, 25, seed, MazeGenerators.byName("kruskal")));
+    }
+  }
+
+  @Test
+  @DisplayName("Bad arguments exit with code 2")
+  void rejectsBadArguments() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals(2, run(args("--size", "20"), out));
+    assertEquals(2, run(args("--algorithm", "nope"), out));
+    assertEquals(2, run(args("--format", "gif"), out));
+    assertEquals(2, run(args("--count"), out));
+    assertEquals(2, run(args("--bogus", "1"), out));
+    assertEquals(2, run(args("--size", "46341"), out), "cell count overflows an int");
+  }
+
+  @Test
+  @DisplayName("A binary file that cannot be written fails the run")
+  void failedWriteExitsNonZero(@TempDir File dir) {
+    // Block the first maze's temporary file with a directory of the same name
+    long firstSeed = new SplittableRandom(7).nextLong();
+    File blocked = new MazeCache(dir).fileFor(firstSeed, 21, "backtracker");
+    assertTrue(new File(dir, blocked.getName() + ".tmp").mkdir());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int code =
+        run(
+            args(
+                "--count",
+                "1",
+                "--size",
+                "21",
+                "--seed",
+                "7",
+                "--format",
+                "bin",
+                "--out",
+                dir.getPath()),
+            out);
+    assertEquals(1, code);
+    assertEquals(0, out.size(), "no stats after a failed run");
+    assertFalse(blocked.exists());
+  }
+
+  @Test
+  @DisplayName("Percentile index uses nearest rank")
+  void percentileIndex() {
+    assertEquals(0, GenerateMazes.percentileIndex(1, 0.99));
+    assertEquals(98, GenerateMazes.percentileIndex(100, 0.99));
+    assertEquals(49, GenerateMazes.percentileIndex(100, 0.50));
+  }
+}
@@ -0,0 +1,52 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HudLayerTest {
+
+  private static HudLayer hud() {
+    return new HudLayer(640, 6, 5.0, new BufferedImage(32, 32, BufferedImage.TYPE_INT_ARGB));
+  }
+
+  @Test
+  @DisplayName("Unchanged values are composed from the cache without repainting")
+  void repaintsOnlyOnChange() {
+    HudLayer hud = hud();
+    BufferedImage screen = new BufferedImage(640, 100, BufferedImage.TYPE_INT_RGB);
+
+    hud.draw(screen.getGraphics(), 3, 0, false, 1.0, 4.99);
+    assertEquals(5, hud.getRepaints(), "chrome and four fields");
+    hud.draw(screen.getGraphics(), 3, 0, false, 1.04, 4.96);
+    assertEquals(5, hud.getRepaints(), "same tenths, colour and bar");
+
+    hud.draw(screen.getGraphics(), 3, 1, false, 1.06, 4.99);
+    assertEquals(7, hud.getRepaints(), "key count and time");
+    hud.draw(screen.getGraphics(), 3, 1, true, 1.06, 4.0);
+    assertEquals(9, hud.getRepaints(), "bone and countdown");
+    hud.draw(screen.getGraphics(), 4, 1, true, 1.06, 4.0);
+    assertEquals(10, hud.getRepaints(), "level only repaints the chrome");
+  }
+
+  @Test
+  @DisplayName("The cached HUD paints the strip and leaves the screen below it alone")
+  void drawsStrip() {
+    HudLayer hud = hud();
+    BufferedImage screen = new BufferedImage(640, 100, BufferedImage.TYPE_INT_RGB);
+    hud.draw(screen.getGraphics(), 3, 2, false, 12.3, 2.5);
+
+    assertNotEquals(0, screen.getRGB(320, 1) & 0xFFFFFF, "background gradient");
+    assertEquals(0, screen.getRGB(320, HudLayer.HEIGHT + 1) & 0xFFFFFF);
+
+    BufferedImage again = new BufferedImage(640, 100, BufferedImage.TYPE_INT_RGB);
+    hud.draw(again.getGraphics(), 3, 2, false, 12.3, 2.5);
+    for (int x = 0; x < 640; x++) {
+      for (int y = 0; y < HudLayer.HEIGHT; y++) {
+        assertEquals(screen.getRGB(x, y), again.getRGB(x, y), "pixel " + x + "," + y);
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package mazegame;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Streams a very large maze into a memory-mapped {@link OffHeapMazeGrid}. Excluded from {@code
+ * test}; run with {@code ./gradlew benchmark}. Set {@code -Dmaze.hugeSize} to change the board size
+ * (default 50,001 tiles per side, about 600 MB on disk).
+ */
+@Tag("benchmark")
+class HugeMazeBenchmark {
+
+  @Test
+  @DisplayName("Huge maze streamed to a mapped file with flat heap use")
+  void hugeMappedMaze(@TempDir File dir) throws IOException {
+    int size = Integer.getInteger("maze.hugeSize", 50_001);
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+    File file = new File(dir, "huge.bin");
+    long start = System.nanoTime();
+    try (OffHeapMazeGrid board = OffHeapMazeGrid.map(file, size, 1)) {
+      StreamingEllerGenerator generator =
+          new StreamingEllerGenerator(size, size, new SplittableRandom(1));
+      generator.subscribe(board);
+      generator.generate();
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    System.gc();
+    long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+    System.out.printf(
+        "off-heap %d x %d: %.1f s, file %d MB, heap %+d KB%n",
+        size, size, seconds, file.length() >> 20, (heapAfter - heapBefore) >> 10);
+  }
+}
@@ -0,0 +1,66 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ItemIndexTest {
+
+  @Test
+  @DisplayName("Items are found by cell and counted per type")
+  void addHasRemove() {
+    ItemIndex items = new ItemIndex(11);
+    items.add(ItemIndex.KEY, 12);
+    items.add(ItemIndex.KEY, 100);
+    items.add(ItemIndex.BONE, 12);
+
+    assertTrue(items.has(ItemIndex.KEY, 12));
+    assertTrue(items.has(ItemIndex.BONE, 12));
+    assertFalse(items.has(ItemIndex.KEY, 13));
+    assertEquals(2, items.count(ItemIndex.KEY));
+
+    assertTrue(items.remove(ItemIndex.KEY, 12));
+    assertFalse(items.remove(ItemIndex.KEY, 12), "Second pickup finds nothing");
+    assertEquals(1, items.count(ItemIndex.KEY));
+    assertTrue(items.has(ItemIndex.BONE, 12), "Types are independent");
+  }
+
+  @Test
+  @DisplayName("Next to vanish is the latest placed key still on the map")
+  void lastSkipsCollectedKeys() {
+    ItemIndex items = new ItemIndex(21);
+    for (int cell : new int[] {22, 64, 65, 300, 440}) {
+      items.add(ItemIndex.KEY, cell);
+    }
+    assertEquals(440, items.last(ItemIndex.KEY));
+
+    items.remove(ItemIndex.KEY, 440);
+    items.remove(ItemIndex.KEY, 300);
+    assertEquals(65, items.last(ItemIndex.KEY));
+
+    assertEquals(65, items.removeLast(ItemIndex.KEY));
+    assertEquals(64, items.removeLast(ItemIndex.KEY));
+    assertEquals(22, items.removeLast(ItemIndex.KEY));
+    assertEquals(-1, items.removeLast(ItemIndex.KEY));
+    assertEquals(0, items.count(ItemIndex.KEY));
+  }
+
+  @Test
+  @DisplayName("Hundreds of keys on a large grid, and clear empties the index")
+  void manyKeys() {
+    int size = 2001;
+    ItemIndex items = new ItemIndex(size);
+    for (int i = 0; i < 500; i++) {
+      items.add(ItemIndex.KEY, i * 7919);
+    }
+    items.add(ItemIndex.KEY, 7919); // Duplicate is ignored
+    assertEquals(500, items.count(ItemIndex.KEY));
+    assertEquals(499 * 7919, items.last(ItemIndex.KEY));
+
+    items.clear();
+    assertEquals(0, items.count(ItemIndex.KEY));
+    assertFalse(items.has(ItemIndex.KEY, 7919));
+    assertEquals(-1, items.last(ItemIndex.KEY));
+  }
+}
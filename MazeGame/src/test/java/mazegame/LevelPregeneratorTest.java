@@ -0,0 +1,57 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LevelPregeneratorTest {
+
+  @Test
+  @DisplayName("Prefetched level is handed over fully generated")
+  void prefetchedLevelIsComplete() {
+    LevelPregenerator pregen = new LevelPregenerator(100, 0);
+    pregen.prefetch(5, 19);
+
+    RecursiveBacktracker maze = LevelPregenerator.await(pregen.take(5, 19));
+
+    assertNotNull(maze);
+    assertEquals(19, maze.getGrid().getRowColAmount());
+    assertTrue(maze.getGrid().isExit(maze.getExitY(), maze.getExitX()));
+    assertEquals((19 / 10) * 4, maze.getKeyCells().length);
+    assertTrue(maze.getGrid().isPassage(maze.getStartingY(), maze.getStartingX()));
+  }
+
+  @Test
+  @DisplayName("Take only matches the prefetched level and size, and only once")
+  void takeMatchesLevelOnce() {
+    LevelPregenerator pregen = new LevelPregenerator(100, 0);
+    pregen.prefetch(2, 13);
+
+    assertNull(pregen.take(3, 15), "Different level should not match");
+    assertNull(pregen.take(2, 15), "Different size should not match");
+    Future<RecursiveBacktracker> future = pregen.take(2, 13);
+    assertNotNull(future);
+    assertNull(pregen.take(2, 13), "A prepared maze is handed over only once");
+    assertNotNull(LevelPregenerator.await(future));
+  }
+
+  @Test
+  @DisplayName("A newer prefetch replaces the pending one")
+  void newerPrefetchReplacesPending() {
+    LevelPregenerator pregen = new LevelPregenerator(100, 0);
+    pregen.prefetch(2, 13);
+    pregen.prefetch(3, 15);
+
+    assertNull(pregen.take(2, 13));
+    RecursiveBacktracker maze = LevelPregenerator.await(pregen.take(3, 15));
+    assertEquals(15, maze.getGrid().getRowColAmount());
+  }
+
+  @Test
+  @DisplayName("Awaiting nothing returns null")
+  void awaitNull() {
+    assertNull(LevelPregenerator.await(null));
+  }
+}
@@ -0,0 +1,89 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MazeCacheTest {
+
+  private static RecursiveBacktracker generate(int size, long seed, String algorithm) {
+    RecursiveBacktracker rb =
+        new RecursiveBacktracker(100, 0, size, seed, MazeGenerators.byName(algorithm));
+    rb.generate();
+    return rb;
+  }
+
+  @Test
+  @DisplayName("A stored maze loads back identical to the generated one")
+  void roundTrip(@TempDir File dir) {
+    MazeCache cache = new MazeCache(dir);
+    RecursiveBacktracker original = generate(41, 99L, "backtracker");
+    cache.store(original);
+
+    RecursiveBacktracker loaded = cache.load(100, 0, 41, 99L, MazeGenerators.byName("backtracker"));
+
+    assertNotNull(loaded);
+    MazeGrid a = original.getGrid();
+    MazeGrid b = loaded.getGrid();
+    for (int r = 0; r < 41; r++) {
+      for (int c = 0; c < 41; c++) {
+        assertEquals(a.isPassage(r, c), b.isPassage(r, c), "Passage at " + r + "," + c);
+        assertEquals(a.hasKey(r, c), b.hasKey(r, c), "Key at " + r + "," + c);
+        assertEquals(a.getWallMask(r, c), b.getWallMask(r, c), "Wall mask at " + r + "," + c);
+        assertEquals(a.getGrassVariant(r, c), b.getGrassVariant(r, c), "Grass at " + r + "," + c);
+      }
+    }
+    assertEquals(original.getExitX(), loaded.getExitX());
+    assertEquals(original.getExitY(), loaded.getExitY());
+    assertEquals(original.getStartingX(), loaded.getStartingX());
+    assertEquals(original.getStartingY(), loaded.getStartingY());
+    assertArrayEquals(original.getKeyCells(), loaded.getKeyCells(), "Key order must survive");
+    assertEquals(a.getBoneRow(), b.getBoneRow());
+    assertEquals(a.getBoneCol(), b.getBoneCol());
+    assertEquals(original.getPassageCount(), loaded.getPassageCount());
+    assertEquals(original.getKeyCoords().size(), loaded.getKeyCoords().size());
+  }
+
+  @Test
+  @DisplayName("Cell data costs two bits per cell")
+  void fileIsCompact(@TempDir File dir) {
+    MazeCache cache = new MazeCache(dir);
+    RecursiveBacktracker maze = generate(201, 5L, "eller");
+    cache.store(maze);
+
+    File file = cache.fileFor(5L, 201, "eller");
+    long cellBytes = (201L * 201 + 3) / 4;
+    long header = 4 + 4 + 8 + 4 + 1 + "eller".length() + 6 * 4 + 4 + 4L * maze.getKeyCells().length;
+    assertEquals(header + cellBytes, file.length());
+  }
+
+  @Test
+  @DisplayName("Different seed, size or generator is a miss")
+  void mismatchIsMiss(@TempDir File dir) {
+    MazeCache cache = new MazeCache(dir);
+    cache.store(generate(21, 1L, "backtracker"));
+
+    assertNull(cache.load(100, 0, 21, 2L, MazeGenerators.byName("backtracker")));
+    assertNull(cache.load(100, 0, 23, 1L, MazeGenerators.byName("backtracker")));
+    assertNull(cache.load(100, 0, 21, 1L, MazeGenerators.byName("kruskal")));
+    assertNotNull(cache.load(100, 0, 21, 1L, MazeGenerators.byName("backtracker")));
+  }
+
+  @Test
+  @DisplayName("A truncated file is treated as a miss")
+  void truncatedFileIsMiss(@TempDir File dir) throws IOException {
+    MazeCache cache = new MazeCache(dir);
+    cache.store(generate(21, 1L, "backtracker"));
+    File file = cache.fileFor(1L, 21, "backtracker");
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(30);
+    }
+
+    assertNull(cache.load(100, 0, 21, 1L, MazeGenerators.byName("backtracker")));
+  }
+}
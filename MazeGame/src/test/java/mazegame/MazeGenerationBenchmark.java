@@ -0,0 +1,71 @@
+package mazegame;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Generation timings. Excluded from {@code test}; run with {@code ./gradlew benchmark}. Results are
+ * printed rather than asserted because they depend on the machine.
+ */
+@Tag("benchmark")
+class MazeGenerationBenchmark {
+
+  private static final int WARMUP = 2;
+  private static final int RUNS = 5;
+
+  /** Returns the median wall time in milliseconds of carving a fresh grid. */
+  private static double medianMillis(MazeGenerator generator, int size) {
+    for (int i = 0; i < WARMUP; i++) {
+      generator.carve(new MazeGrid(size), 1, 1, new SplittableRandom(i));
+    }
+    double[] times = new double[RUNS];
+    for (int i = 0; i < RUNS; i++) {
+      MazeGrid maze = new MazeGrid(size);
+      long start = System.nanoTime();
+      generator.carve(maze, 1, 1, new SplittableRandom(i));
+      times[i] = (System.nanoTime() - start) / 1e6;
+    }
+    Arrays.sort(times);
+    return times[RUNS / 2];
+  }
+
+  @Test
+  @DisplayName("Sequential generators on large grids")
+  void sequentialGenerators() {
+    for (int size : new int[] {2001, 4001}) {
+      for (String name : new String[] {"backtracker", "kruskal", "prim", "eller", "binary-tree"}) {
+        double ms = medianMillis(MazeGenerators.byName(name), size);
+        System.out.printf("%-12s %5d x %-5d %9.1f ms%n", name, size, size, ms);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Parallel generator speedup by pool size")
+  void parallelSpeedup() {
+    int cores = Runtime.getRuntime().availableProcessors();
+    for (int size : new int[] {2001, 4001, 8001}) {
+      double baseline = 0;
+      for (int threads = 1; threads <= cores; threads *= 2) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+          ParallelMazeGenerator generator =
+              new ParallelMazeGenerator(pool, ParallelMazeGenerator.DEFAULT_LEAF_CELLS);
+          double ms = medianMillis(generator, size);
+          if (threads == 1) {
+            baseline = ms;
+          }
+          System.out.printf(
+              "parallel     %5d x %-5d %2d threads %9.1f ms  speedup %.2fx%n",
+              size, size, threads, ms, baseline / ms);
+        } finally {
+          pool.shutdown();
+        }
+      }
+    }
+  }
+}
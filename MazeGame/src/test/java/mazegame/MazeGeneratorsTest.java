@@ -0,0 +1,124 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MazeGeneratorsTest {
+
+  private static final int[] SIZES = {3, 5, 11, 51, 101};
+
+  // ─── Perfect-maze property for every algorithm ───────────────────
+
+  @Test
+  @DisplayName("Every registered generator carves a connected, loop-free maze")
+  void everyGeneratorCarvesPerfectMaze() {
+    for (String name : MazeGenerators.names()) {
+      MazeGenerator generator = MazeGenerators.byName(name);
+      for (int size : SIZES) {
+        int cellsPerRow = (size - 1) / 2;
+        int cells = cellsPerRow * cellsPerRow;
+        SplittableRandom rand = new SplittableRandom(size * 31L + name.hashCode());
+        MazeGrid maze = new MazeGrid(size);
+
+        int opened = generator.carve(maze, size / 2 | 1, 1, rand);
+
+        // A spanning tree over the cells opens every cell plus (cells - 1) connecting walls
+        assertEquals(2 * cells - 1, opened, name + " opened count at size " + size);
+        assertEquals(opened, maze.countPassages(), name + " passages at size " + size);
+        assertEquals(
+            opened, MazeTestUtil.countReachable(maze), name + " connectivity at size " + size);
+
+        for (int i = 0; i < size; i++) {
+          assertTrue(maze.isWall(0, i), name + " top border");
+          assertTrue(maze.isWall(size - 1, i), name + " bottom border");
+          assertTrue(maze.isWall(i, 0), name + " left border");
+          assertTrue(maze.isWall(i, size - 1), name + " right border");
+        }
+        for (int r = 0; r < size; r += 2) {
+          for (int c = 0; c < size; c += 2) {
+            assertTrue(maze.isWall(r, c), name + " pillar at " + r + "," + c);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Every generator is deterministic for a given seed")
+  void generatorsAreDeterministic() {
+    for (String name : MazeGenerators.names()) {
+      MazeGenerator generator = MazeGenerators.byName(name);
+      MazeGrid a = new MazeGrid(41);
+      MazeGrid b = new MazeGrid(41);
+      generator.carve(a, 1, 1, new SplittableRandom(7));
+      generator.carve(b, 1, 1, new SplittableRandom(7));
+      for (int r = 0; r < 41; r++) {
+        for (int c = 0; c < 41; c++) {
+          assertEquals(a.isPassage(r, c), b.isPassage(r, c), name + " at " + r + "," + c);
+        }
+      }
+    }
+  }
+
+  // ─── Pipeline integration ─────────────────────────────────────────
+
+  @Test
+  @DisplayName("Full pipeline places exit, keys and bone with any generator")
+  void pipelineWorksWithEveryGenerator() {
+    for (String name : MazeGenerators.names()) {
+      RecursiveBacktracker rb =
+          new RecursiveBacktracker(100, 0, 31, 42L, MazeGenerators.byName(name));
+      MazeGrid maze = rb.generate();
+
+      assertTrue(maze.isExit(rb.getExitY(), rb.getExitX()), name + " exit");
+      assertEquals((31 / 10) * 4, rb.getKeyCells().length, name + " keys");
+      assertTrue(maze.getBoneRow() > 0, name + " bone");
+      assertEquals(maze.countPassages(), rb.getPassageCount(), name + " passage count");
+      assertSame(MazeGenerators.byName(name), rb.getGenerator());
+    }
+  }
+
+  // ─── Registry ─────────────────────────────────────────────────────
+
+  @Test
+  @DisplayName("Registry exposes all algorithms by name")
+  void registryListsAllAlgorithms() {
+    assertArrayEquals(
+        new String[] {
+          "backtracker",
+          "kruskal",
+          "prim",
+          "wilson",
+          "eller",
+          "binary-tree",
+          "growing-tree",
+          "parallel"
+        },
+        MazeGenerators.names());
+    assertThrows(IllegalArgumentException.class, () -> MazeGenerators.byName("nope"));
+  }
+
+  @Test
+  @DisplayName("Early levels use Prim's and growing-tree, later levels fall back to the size rule")
+  void forLevelPicksByLevel() {
+    assertEquals("prim", MazeGenerators.forLevel(1, 11).getName());
+    assertEquals("prim", MazeGenerators.forLevel(2, 13).getName());
+    assertEquals("growing-tree", MazeGenerators.forLevel(3, 15).getName());
+    assertEquals("growing-tree", MazeGenerators.forLevel(5, 19).getName());
+    assertEquals("backtracker", MazeGenerators.forLevel(6, 21).getName());
+    assertEquals("backtracker", MazeGenerators.forLevel(30, 69).getName());
+    assertEquals(
+        "eller", MazeGenerators.forLevel(1, MazeGenerators.LARGE_GRID).getName(), "size wins");
+  }
+
+  @Test
+  @DisplayName("Campaign sizes use the backtracker, very large grids use faster generators")
+  void forSizePicksBySize() {
+    assertEquals("backtracker", MazeGenerators.forSize(11).getName());
+    assertEquals("eller", MazeGenerators.forSize(MazeGenerators.LARGE_GRID).getName());
+    assertEquals("parallel", MazeGenerators.forSize(MazeGenerators.HUGE_GRID).getName());
+  }
+}
@@ -0,0 +1,132 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MazeGridTest {
+
+  @Test
+  @DisplayName("New grid is all walls with no items")
+  void newGridIsAllWalls() {
+    MazeGrid grid = new MazeGrid(7);
+
+    for (int r = 0; r < 7; r++) {
+      for (int c = 0; c < 7; c++) {
+        assertTrue(grid.isWall(r, c));
+        assertFalse(grid.hasKey(r, c));
+        assertFalse(grid.isExplored(r, c));
+      }
+    }
+    assertEquals(0, grid.countPassages());
+  }
+
+  @Test
+  @DisplayName("Passage bits do not bleed across 64-bit word boundaries")
+  void passageBitsAcrossWords() {
+    MazeGrid grid = new MazeGrid(131);
+    grid.setPassage(5, 63);
+    grid.setPassage(5, 64);
+    grid.setPassage(6, 0);
+
+    assertEquals(3, grid.getWordsPerRow());
+    assertTrue(grid.isPassage(5, 63));
+    assertTrue(grid.isPassage(5, 64));
+    assertTrue(grid.isPassage(6, 0));
+    assertFalse(grid.isPassage(5, 0));
+    assertFalse(grid.isPassage(5, 65));
+    assertEquals(3, grid.countPassages());
+  }
+
+  @Test
+  @DisplayName("Exit is open but excluded from the passage count")
+  void exitIsOpen() {
+    MazeGrid grid = new MazeGrid(5);
+    grid.setPassage(1, 1);
+    grid.setExit(1, 3);
+
+    assertTrue(grid.isPassage(1, 3));
+    assertTrue(grid.isExit(1, 3));
+    assertFalse(grid.isExit(1, 1));
+    assertEquals(1, grid.countPassages());
+  }
+
+  @Test
+  @DisplayName("Keys can be placed and removed")
+  void keyToggle() {
+    MazeGrid grid = new MazeGrid(5);
+    grid.setKey(3, 3, true);
+    assertTrue(grid.hasKey(3, 3));
+    grid.setKey(3, 3, false);
+    assertFalse(grid.hasKey(3, 3));
+  }
+
+  @Test
+  @DisplayName("Wall mask and grass variant share a byte without interfering")
+  void attributesAreIndependent() {
+    MazeGrid grid = new MazeGrid(5);
+    grid.setWallMask(2, 2, MazeGrid.NORTH | MazeGrid.WEST);
+    grid.setGrassVariant(2, 2, 3);
+
+    assertEquals(0b1001, grid.getWallMask(2, 2));
+    assertEquals(3, grid.getGrassVariant(2, 2));
+
+    grid.setWallMask(2, 2, MazeGrid.EAST);
+    assertEquals(MazeGrid.EAST, grid.getWallMask(2, 2));
+    assertEquals(3, grid.getGrassVariant(2, 2));
+  }
+
+  @Test
+  @DisplayName("Bone is stored as a single cell")
+  void boneCell() {
+    MazeGrid grid = new MazeGrid(5);
+    assertFalse(grid.isBone(1, 1));
+    grid.setBone(1, 1);
+    assertTrue(grid.isBone(1, 1));
+    assertEquals(1, grid.getBoneRow());
+    assertEquals(1, grid.getBoneCol());
+  }
+
+  @Test
+  @DisplayName("Row-wise wall masks match a per-tile neighbour check across word boundaries")
+  void computeWallMasksMatchesPerTile() {
+    int size = 141; // Three words per row
+    MazeGrid grid = new MazeGrid(size);
+    SplittableRandom rand = new SplittableRandom(4);
+    for (int r = 0; r < size; r++) {
+      for (int c = 0; c < size; c++) {
+        if (rand.nextInt(3) == 0) {
+          grid.setPassage(r, c);
+        }
+      }
+    }
+    grid.setExit(0, 64);
+    grid.setGrassVariant(1, 63, 2);
+    grid.computeWallMasks();
+
+    for (int r = 0; r < size; r++) {
+      for (int c = 0; c < size; c++) {
+        if (!grid.isWall(r, c)) {
+          continue;
+        }
+        int expected = 0;
+        if (r > 0 && grid.isPassage(r - 1, c) && !grid.isExit(r - 1, c)) {
+          expected |= MazeGrid.NORTH;
+        }
+        if (c + 1 < size && grid.isPassage(r, c + 1) && !grid.isExit(r, c + 1)) {
+          expected |= MazeGrid.EAST;
+        }
+        if (r + 1 < size && grid.isPassage(r + 1, c) && !grid.isExit(r + 1, c)) {
+          expected |= MazeGrid.SOUTH;
+        }
+        if (c > 0 && grid.isPassage(r, c - 1) && !grid.isExit(r, c - 1)) {
+          expected |= MazeGrid.WEST;
+        }
+        assertEquals(expected, grid.getWallMask(r, c), "Mask at " + r + "," + c);
+      }
+    }
+    assertEquals(2, grid.getGrassVariant(1, 63), "Grass bits are preserved");
+  }
+}
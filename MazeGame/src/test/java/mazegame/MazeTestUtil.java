@@ -0,0 +1,32 @@
+package mazegame;
+
+/** Maze checks shared by the generator tests. */
+final class MazeTestUtil {
+
+  private MazeTestUtil() {}
+
+  /** Counts open tiles reachable from (1, 1) by walking the tile grid. */
+  static int countReachable(MazeStorage maze) {
+    int size = maze.getRowColAmount();
+    boolean[] seen = new boolean[size * size];
+    int[] queue = new int[size * size];
+    int head = 0;
+    int tail = 0;
+    seen[size + 1] = true;
+    queue[tail++] = size + 1;
+    int[] dRow = {-1, 0, 1, 0};
+    int[] dCol = {0, 1, 0, -1};
+    while (head < tail) {
+      int tile = queue[head++];
+      for (int d = 0; d < 4; d++) {
+        int row = tile / size + dRow[d];
+        int col = tile % size + dCol[d];
+        if (maze.inBounds(row, col) && maze.isPassage(row, col) && !seen[row * size + col]) {
+          seen[row * size + col] = true;
+          queue[tail++] = row * size + col;
+        }
+      }
+    }
+    return tail;
+  }
+}
@@ -0,0 +1,143 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OffHeapMazeGridTest {
+
+  /** Streams a maze into any storage. */
+  private static void stream(MazeStorage storage, long seed) {
+    int size = storage.getRowColAmount();
+    StreamingEllerGenerator generator =
+        new StreamingEllerGenerator(size, size, new SplittableRandom(seed));
+    generator.subscribe(storage);
+    generator.generate();
+  }
+
+  @Test
+  @DisplayName("Streamed maze and its grass match the on-heap grid, across small segments")
+  void matchesHeapGrid() {
+    int size = 101;
+    MazeGrid heap = new MazeGrid(size);
+    OffHeapMazeGrid offHeap = OffHeapMazeGrid.allocate(size, 8, 64);
+    stream(heap, 8);
+    stream(offHeap, 8);
+    heap.setExit(0, 1);
+    offHeap.setExit(0, 1);
+    heap.computeWallMasks();
+    new RecursiveBacktracker(32, 0, size, 8).paintGrass(heap);
+
+    for (int r = 0; r < size; r++) {
+      for (int c = 0; c < size; c++) {
+        assertEquals(heap.isPassage(r, c), offHeap.isPassage(r, c), r + "," + c);
+        assertEquals(heap.isExit(r, c), offHeap.isExit(r, c), r + "," + c);
+        assertEquals(heap.getGrassVariant(r, c), offHeap.getGrassVariant(r, c), r + "," + c);
+        if (heap.isWall(r, c)) {
+          assertEquals(heap.getWallMask(r, c), offHeap.getWallMask(r, c), r + "," + c);
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Generators carve the same maze off the heap as on it")
+  void generatorsCarveOffHeap() {
+    int size = 41;
+    for (String name : MazeGenerators.names()) {
+      MazeGenerator generator = MazeGenerators.byName(name);
+      MazeGrid heap = new MazeGrid(size);
+      OffHeapMazeGrid offHeap = OffHeapMazeGrid.allocate(size, 3, 64);
+      if (generator instanceof ParallelMazeGenerator) {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> generator.carve(offHeap, 1, 1, new SplittableRandom(3)));
+        continue;
+      }
+      assertEquals(
+          generator.carve(heap, 1, 1, new SplittableRandom(3)),
+          generator.carve(offHeap, 1, 1, new SplittableRandom(3)),
+          name);
+      for (int r = 0; r < size; r++) {
+        for (int c = 0; c < size; c++) {
+          assertEquals(heap.isPassage(r, c), offHeap.isPassage(r, c), name + " " + r + "," + c);
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Moving the exit reverts the old one to a passage")
+  void exitMoves() {
+    OffHeapMazeGrid grid = OffHeapMazeGrid.allocate(7, 0);
+    grid.setPassage(1, 1);
+    grid.setExit(0, 1);
+    grid.setExit(1, 0);
+    assertFalse(grid.isExit(0, 1));
+    assertTrue(grid.isPassage(0, 1));
+    assertTrue(grid.isExit(1, 0));
+    grid.setPassage(1, 0);
+    assertTrue(grid.isExit(1, 0), "Opening the exit again keeps it the exit");
+  }
+
+  @Test
+  @DisplayName("Moving the exit of a reopened board clears the stored one")
+  void reopenedExitMoves(@TempDir File dir) throws IOException {
+    File file = new File(dir, "board.bin");
+    try (OffHeapMazeGrid board = OffHeapMazeGrid.map(file, 9, 0, 256)) {
+      board.setPassage(4, 4);
+      board.setExit(6, 5);
+    }
+    try (OffHeapMazeGrid board = OffHeapMazeGrid.map(file, 9, 0, 256)) {
+      board.setExit(8, 7);
+      assertFalse(board.isExit(6, 5));
+      assertTrue(board.isPassage(6, 5));
+      assertTrue(board.isExit(8, 7));
+      int exits = 0;
+      for (int r = 0; r < 9; r++) {
+        for (int c = 0; c < 9; c++) {
+          exits += board.isExit(r, c) ? 1 : 0;
+        }
+      }
+      assertEquals(1, exits);
+    }
+  }
+
+  @Test
+  @DisplayName("Mapped board persists across close and reopen")
+  void mappedBoardPersists(@TempDir File dir) throws IOException {
+    File file = new File(dir, "board.bin");
+    int size = 201;
+    MazeGrid reference = new MazeGrid(size);
+    stream(reference, 5);
+
+    try (OffHeapMazeGrid board = OffHeapMazeGrid.map(file, size, 5, 256)) {
+      stream(board, 5);
+      board.setExit(size - 1, size - 2);
+    }
+    assertEquals(OffHeapMazeGrid.byteCount(size), file.length());
+
+    try (OffHeapMazeGrid board = OffHeapMazeGrid.map(file, size, 5, 256)) {
+      for (int r = 0; r < size; r++) {
+        for (int c = 0; c < size; c++) {
+          boolean exit = r == size - 1 && c == size - 2;
+          assertEquals(reference.isPassage(r, c) || exit, board.isPassage(r, c), r + "," + c);
+          assertEquals(exit, board.isExit(r, c));
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Two bits per tile")
+  void byteCount() {
+    assertEquals(1, OffHeapMazeGrid.byteCount(1));
+    assertEquals(7, OffHeapMazeGrid.byteCount(5)); // 25 tiles
+    assertEquals(625_025_001L, OffHeapMazeGrid.byteCount(50_001), "No int overflow");
+  }
+}
@@ -0,0 +1,62 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParallelMazeGeneratorTest {
+
+  private static boolean[] snapshot(MazeGrid maze) {
+    int size = maze.getRowColAmount();
+    boolean[] open = new boolean[size * size];
+    for (int r = 0; r < size; r++) {
+      for (int c = 0; c < size; c++) {
+        open[r * size + c] = maze.isPassage(r, c);
+      }
+    }
+    return open;
+  }
+
+  @Test
+  @DisplayName("Many small regions still join into one perfect maze")
+  void smallRegionsFormPerfectMaze() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int size : new int[] {131, 257, 301}) {
+        MazeGrid maze = new MazeGrid(size);
+        int cells = ((size - 1) / 2) * ((size - 1) / 2);
+
+        int opened =
+            new ParallelMazeGenerator(pool, 64).carve(maze, 1, 1, new SplittableRandom(size));
+
+        assertEquals(2 * cells - 1, opened, "Opened count at size " + size);
+        assertEquals(opened, maze.countPassages(), "Passages at size " + size);
+        assertEquals(opened, MazeTestUtil.countReachable(maze), "Connectivity at size " + size);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("Output depends on the seed, not on the pool size")
+  void deterministicAcrossPoolSizes() {
+    ForkJoinPool single = new ForkJoinPool(1);
+    ForkJoinPool quad = new ForkJoinPool(4);
+    try {
+      MazeGrid a = new MazeGrid(257);
+      MazeGrid b = new MazeGrid(257);
+      new ParallelMazeGenerator(single, 100).carve(a, 1, 1, new SplittableRandom(77));
+      new ParallelMazeGenerator(quad, 100).carve(b, 1, 1, new SplittableRandom(77));
+
+      assertTrue(Arrays.equals(snapshot(a), snapshot(b)));
+    } finally {
+      single.shutdown();
+      quad.shutdown();
+    }
+  }
+}
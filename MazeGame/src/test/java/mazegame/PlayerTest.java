@@ -81,4 +81,30 @@ class PlayerTest {
     assertEquals(100, p.getSize());
     // No setSize method exists — size is final
   }
+
+  @Test
+  @DisplayName("Fixed-point position keeps sub-pixel movement and floors to whole pixels")
+  void fixedPointPosition() {
+    Player p = new Player(10, -3, 50);
+    assertEquals(10 * Player.ONE, p.getFixedX());
+
+    p.setFixedX(p.getFixedX() + Player.ONE / 2);
+    assertEquals(10, p.getX());
+    p.setFixedX(p.getFixedX() + Player.ONE / 2);
+    assertEquals(11, p.getX());
+
+    p.setFixedY(p.getFixedY() - 1);
+    assertEquals(-4, p.getY());
+    p.setY(7);
+    assertEquals(Player.toFixed(7), p.getFixedY());
+  }
+
+  @Test
+  @DisplayName("Fixed-point coordinates reach beyond 16-bit pixel range")
+  void largeCoordinates() {
+    Player p = new Player(0, 0, 50);
+    p.setX(1_000_000);
+    assertEquals(1_000_000, p.getX());
+    assertEquals(1_000_000, Player.toPixels(Player.toFixed(1_000_000)));
+  }
 }
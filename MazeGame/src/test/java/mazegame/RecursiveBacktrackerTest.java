@@ -3,10 +3,12 @@ package mazegame;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
@@ -112,6 +114,44 @@ class RecursiveBacktrackerTest {
     }
   }
 
+  @RepeatedTest(5)
+  @DisplayName("Key spacing keeps keys apart from the start and each other")
+  void keySpacingIsRespected() {
+    int size = 61;
+    int spacing = 6;
+    RecursiveBacktracker rb = new RecursiveBacktracker(50, 0, size);
+    rb.setKeySpacing(spacing);
+    MazeGrid grid = rb.generate();
+
+    int[] keys = rb.getKeyCells();
+    assertEquals((size / 10) * 4, keys.length);
+    DistanceField field = new DistanceField(grid, spacing);
+    field.addSource(rb.getStartingY(), rb.getStartingX());
+    for (int key : keys) {
+      int row = key / size;
+      int col = key % size;
+      assertTrue(grid.hasKey(row, col));
+      assertTrue(field.isClear(row, col), "Key at " + row + "," + col + " is too close");
+      field.addSource(row, col);
+    }
+  }
+
+  @Test
+  @DisplayName("Impossible spacing still places every key")
+  void impossibleSpacingFallsBack() {
+    RecursiveBacktracker rb = new RecursiveBacktracker(50, 0, 21, 3L);
+    rb.setKeySpacing(1000);
+    MazeGrid grid = rb.generate();
+
+    int[] keys = rb.getKeyCells();
+    assertEquals((21 / 10) * 4, keys.length);
+    assertEquals(keys.length, Arrays.stream(keys).distinct().count());
+    for (int key : keys) {
+      assertTrue(grid.hasKey(key / 21, key % 21));
+      assertFalse(grid.isExit(key / 21, key % 21));
+    }
+  }
+
   // ─── Border walls ─────────────────────────────────────────────────
 
   @Test
@@ -174,6 +214,46 @@ class RecursiveBacktrackerTest {
     assertEquals(1, exitCount, "Maze should have exactly one exit");
   }
 
+  @RepeatedTest(5)
+  @DisplayName("Exit is placed on the passage furthest from the start")
+  void exitIsFurthestFromStart() {
+    int size = 31;
+    RecursiveBacktracker rb = new RecursiveBacktracker(50, 0, size);
+    Tile[][] tiles = rb.startGeneration();
+
+    int[][] dist = new int[size][size];
+    for (int[] row : dist) Arrays.fill(row, -1);
+    Queue<int[]> queue = new LinkedList<>();
+    queue.add(new int[] {rb.getStartingY(), rb.getStartingX()});
+    dist[rb.getStartingY()][rb.getStartingX()] = 0;
+    int maxDist = 0;
+    int[][] dirs = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    while (!queue.isEmpty()) {
+      int[] pos = queue.poll();
+      maxDist = Math.max(maxDist, dist[pos[0]][pos[1]]);
+      for (int[] d : dirs) {
+        int nr = pos[0] + d[0];
+        int nc = pos[1] + d[1];
+        if (dist[nr][nc] == -1 && !(tiles[nr][nc] instanceof TileWall)) {
+          dist[nr][nc] = dist[pos[0]][pos[1]] + 1;
+          queue.add(new int[] {nr, nc});
+        }
+      }
+    }
+
+    assertInstanceOf(TileExit.class, tiles[rb.getExitY()][rb.getExitX()]);
+    assertEquals(maxDist, dist[rb.getExitY()][rb.getExitX()], "Exit should be a furthest passage");
+  }
+
+  @Test
+  @DisplayName("Incremental passage count matches a full grid scan")
+  void incrementalPassageCount() {
+    RecursiveBacktracker rb = new RecursiveBacktracker(50, 0, 21);
+    Tile[][] tiles = rb.startGeneration();
+
+    assertEquals(rb.getPassageCount(tiles), rb.getPassageCount());
+  }
+
   // ─── Connectivity ─────────────────────────────────────────────────
 
   @Test
@@ -241,6 +321,104 @@ class RecursiveBacktrackerTest {
     }
   }
 
+  // ─── Iterative carving engine ─────────────────────────────────────
+
+  @Test
+  @DisplayName("Iterative carve produces a perfect maze (cells + cells - 1 passages)")
+  void iterativeCarveIsPerfect() {
+    int size = 41;
+    MazeGrid grid = RecursiveBacktracker.carve(size, 1, 1, new SplittableRandom(7));
+
+    int cells = ((size - 1) / 2) * ((size - 1) / 2);
+    assertEquals(cells * 2 - 1, grid.countPassages(), "Spanning tree should open cells - 1 walls");
+    for (int i = 0; i < size; i++) {
+      assertTrue(grid.isWall(0, i), "Top border should stay solid");
+      assertTrue(grid.isWall(size - 1, i), "Bottom border should stay solid");
+    }
+  }
+
+  @Test
+  @DisplayName("Iterative carve handles a 4001x4001 grid on a 512 KB thread stack")
+  void iterativeCarveOnSmallStack() throws InterruptedException {
+    int size = 4001;
+    MazeGrid[] result = new MazeGrid[1];
+    Throwable[] failure = new Throwable[1];
+    Thread worker =
+        new Thread(
+            null,
+            () -> {
+              try {
+                result[0] = RecursiveBacktracker.carve(size, 1, 1, new SplittableRandom(1));
+              } catch (Throwable t) {
+                failure[0] = t;
+              }
+            },
+            "carve-small-stack",
+            512 * 1024);
+    worker.start();
+    worker.join();
+
+    assertNull(failure[0], "Carving should not throw: " + failure[0]);
+    assertTrue(result[0].isPassage(size - 2, size - 2), "Far corner cell should be carved");
+  }
+
+  // ─── Seeded generation ────────────────────────────────────────────
+
+  @Test
+  @DisplayName("Same seed reproduces the same maze, keys, bone and grass")
+  void sameSeedIsDeterministic() {
+    int size = 41;
+    RecursiveBacktracker a = new RecursiveBacktracker(50, 0, size, 1234L);
+    RecursiveBacktracker b = new RecursiveBacktracker(50, 0, size, 1234L);
+    MazeGrid ga = a.generate();
+    MazeGrid gb = b.generate();
+
+    assertEquals(a.getStartingX(), b.getStartingX());
+    assertEquals(a.getStartingY(), b.getStartingY());
+    assertArrayEquals(a.getKeyCells(), b.getKeyCells());
+    assertEquals(ga.getExitRow(), gb.getExitRow());
+    assertEquals(ga.getExitCol(), gb.getExitCol());
+    assertEquals(ga.getBoneRow(), gb.getBoneRow());
+    assertEquals(ga.getBoneCol(), gb.getBoneCol());
+    for (int r = 0; r < size; r++) {
+      for (int c = 0; c < size; c++) {
+        assertEquals(ga.isPassage(r, c), gb.isPassage(r, c), "Cell " + r + "," + c);
+        assertEquals(ga.getWallMask(r, c), gb.getWallMask(r, c));
+        assertEquals(ga.getGrassVariant(r, c), gb.getGrassVariant(r, c));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Different seeds produce different layouts")
+  void differentSeedsDiffer() {
+    int size = 41;
+    MazeGrid ga = new RecursiveBacktracker(50, 0, size, 1L).generate();
+    MazeGrid gb = new RecursiveBacktracker(50, 0, size, 2L).generate();
+
+    boolean differs = false;
+    for (int r = 0; r < size && !differs; r++) {
+      for (int c = 0; c < size && !differs; c++) {
+        differs = ga.isPassage(r, c) != gb.isPassage(r, c);
+      }
+    }
+    assertTrue(differs, "Seeds 1 and 2 should not carve identical mazes");
+  }
+
+  @Test
+  @DisplayName("Bone is placed on a free passage away from the start")
+  void boneIsOnFreePassage() {
+    RecursiveBacktracker rb = new RecursiveBacktracker(50, 0, 21, 99L);
+    MazeGrid grid = rb.generate();
+    int r = grid.getBoneRow();
+    int c = grid.getBoneCol();
+
+    assertTrue(grid.isPassage(r, c));
+    assertFalse(grid.isExit(r, c));
+    assertFalse(grid.hasKey(r, c));
+    assertFalse(r == rb.getStartingY() && c == rb.getStartingX(), "Bone should not be on start");
+  }
+
   // ─── Multiple grid sizes ──────────────────────────────────────────
 
   @Test
@@ -0,0 +1,91 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpriteAtlasTest {
+
+  private static BufferedImage solid(int w, int h, Color colour) {
+    BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    g.setColor(colour);
+    g.fillRect(0, 0, w, h);
+    g.dispose();
+    return image;
+  }
+
+  @Test
+  @DisplayName("Packed sprites keep their pixels and ids")
+  void packsSprites() {
+    SpriteAtlas atlas = new SpriteAtlas(64);
+    int red = atlas.add(solid(32, 32, Color.RED));
+    int green = atlas.add(solid(32, 16, Color.GREEN));
+    int blue = atlas.add(solid(16, 16, Color.BLUE));
+    atlas.pack();
+
+    assertEquals(3, atlas.size());
+    assertEquals(Color.RED.getRGB(), atlas.getImage(red).getRGB(31, 31));
+    assertEquals(16, atlas.getImage(green).getHeight());
+    assertEquals(Color.GREEN.getRGB(), atlas.getImage(green).getRGB(0, 0));
+    assertEquals(Color.BLUE.getRGB(), atlas.getImage(blue).getRGB(15, 15));
+    assertSame(atlas.getImage(blue), atlas.getImage(blue));
+    // Green does not fit beside red (32 + 1 + 32 > 64) so starts a second shelf; blue joins it
+    assertEquals(32 + 1 + 16, atlas.getSheet().getHeight());
+  }
+
+  @Test
+  @DisplayName("Drawing scales a sprite's sub-region to the destination")
+  void drawsScaled() {
+    SpriteAtlas atlas = new SpriteAtlas();
+    atlas.add(solid(8, 8, Color.RED));
+    int blue = atlas.add(solid(8, 8, Color.BLUE));
+    atlas.pack();
+
+    BufferedImage target = new BufferedImage(40, 40, BufferedImage.TYPE_INT_RGB);
+    atlas.draw(target.getGraphics(), blue, 10, 10, 20, 20);
+    assertEquals(Color.BLUE.getRGB(), target.getRGB(10, 10));
+    assertEquals(Color.BLUE.getRGB(), target.getRGB(29, 29));
+    assertEquals(Color.BLACK.getRGB(), target.getRGB(30, 30));
+    assertEquals(Color.BLACK.getRGB(), target.getRGB(9, 10));
+  }
+
+  @Test
+  @DisplayName("A scaled atlas keeps ids and draws each sprite 1:1 at the new size")
+  void scalesSprites() {
+    SpriteAtlas atlas = new SpriteAtlas(16);
+    BufferedImage checker = solid(2, 2, Color.RED);
+    checker.setRGB(1, 0, Color.BLUE.getRGB());
+    int small = atlas.add(solid(4, 4, Color.GREEN));
+    int pattern = atlas.add(checker);
+    assertThrows(IllegalStateException.class, () -> atlas.scaled(10));
+    atlas.pack();
+
+    SpriteAtlas scaled = atlas.scaled(10);
+    assertEquals(2, scaled.size());
+    assertEquals(10, scaled.getImage(small).getWidth());
+    assertEquals(10, scaled.getImage(pattern).getHeight());
+    assertNotEquals(BufferedImage.TYPE_INT_ARGB, scaled.getSheet().getType());
+
+    BufferedImage target = new BufferedImage(20, 20, BufferedImage.TYPE_INT_RGB);
+    scaled.draw(target.getGraphics(), pattern, 5, 5);
+    // Nearest-neighbour: each source pixel becomes a sharp 5x5 block
+    assertEquals(Color.RED.getRGB(), target.getRGB(9, 5));
+    assertEquals(Color.BLUE.getRGB(), target.getRGB(10, 5));
+    assertEquals(Color.RED.getRGB(), target.getRGB(14, 14));
+    assertEquals(Color.BLACK.getRGB(), target.getRGB(15, 15));
+  }
+
+  @Test
+  @DisplayName("Sprites cannot be added after packing or be wider than the sheet")
+  void rejectsInvalidAdds() {
+    SpriteAtlas atlas = new SpriteAtlas(16);
+    assertThrows(IllegalArgumentException.class, () -> atlas.add(solid(17, 1, Color.RED)));
+    atlas.pack();
+    assertThrows(IllegalStateException.class, () -> atlas.add(solid(1, 1, Color.RED)));
+  }
+}
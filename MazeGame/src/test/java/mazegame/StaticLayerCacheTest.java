@@ -0,0 +1,84 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StaticLayerCacheTest {
+
+  private static final int TILE = 10;
+
+  /** Fills each tile with a colour derived from its coordinates and counts painted tiles. */
+  private static final class CountingPainter implements StaticLayerCache.TilePainter {
+    int painted;
+
+    @Override
+    public void paintTile(Graphics2D g, int row, int col, int x, int y) {
+      painted++;
+      g.setColor(colour(row, col));
+      g.fillRect(x, y, TILE, TILE);
+    }
+
+    static Color colour(int row, int col) {
+      return new Color(row & 0xFF, col & 0xFF, 7);
+    }
+  }
+
+  @Test
+  @DisplayName("Chunks are painted once and then only blitted")
+  void paintsOnce() {
+    CountingPainter painter = new CountingPainter();
+    StaticLayerCache cache = new StaticLayerCache(painter, TILE, 0, 4, 1 << 20);
+    Camera camera = new Camera(60, 60); // spans up to 3 chunks of 40px per side
+    camera.move(20, 20);
+    BufferedImage screen = new BufferedImage(60, 60, BufferedImage.TYPE_INT_RGB);
+
+    assertEquals(4, cache.draw(screen.getGraphics(), camera)); // x, y = 20 .. 79
+    assertEquals(4 * 16, painter.painted);
+    cache.draw(screen.getGraphics(), camera);
+    assertEquals(4 * 16, painter.painted);
+    assertEquals(4, cache.getChunksBuilt());
+
+    // Screen pixel (0, 0) is world (20, 20), tile (2, 2)
+    assertEquals(CountingPainter.colour(2, 2).getRGB(), screen.getRGB(0, 0));
+    assertEquals(CountingPainter.colour(7, 5).getRGB(), screen.getRGB(55 - 20, 75 - 20));
+  }
+
+  @Test
+  @DisplayName("A bounded maze skips tiles outside it and leaves edge chunks transparent")
+  void boundedMaze() {
+    CountingPainter painter = new CountingPainter();
+    StaticLayerCache cache = new StaticLayerCache(painter, TILE, 6, 4, 1 << 20);
+    Camera camera = new Camera(200, 200);
+    camera.move(-50, -50);
+
+    assertEquals(
+        4,
+        cache.draw(new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB).getGraphics(), camera));
+    assertEquals(36, painter.painted);
+    assertEquals(Transparency.OPAQUE, cache.chunk(0, 0).getTransparency());
+    BufferedImage edge = cache.chunk(1, 1);
+    assertEquals(Transparency.TRANSLUCENT, edge.getTransparency());
+    assertEquals(0, edge.getRGB(25, 25) >>> 24, "outside the maze stays transparent");
+  }
+
+  @Test
+  @DisplayName("Least recently drawn chunks are evicted past the budget")
+  void evictsUnderBudget() {
+    CountingPainter painter = new CountingPainter();
+    StaticLayerCache cache = new StaticLayerCache(painter, TILE, 0, 4, 0);
+    assertEquals(StaticLayerCache.MIN_RESIDENT_CHUNKS, cache.getMaxResidentChunks());
+
+    for (int col = 0; col < 20; col++) {
+      cache.chunk(0, col);
+    }
+    assertEquals(StaticLayerCache.MIN_RESIDENT_CHUNKS, cache.getResidentChunks());
+    cache.chunk(0, 0);
+    assertEquals(21, cache.getChunksBuilt(), "evicted chunk is repainted");
+  }
+}
@@ -0,0 +1,166 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StreamingEllerGeneratorTest {
+
+  /** Collects emitted rows as boolean arrays. */
+  private static List<boolean[]> collect(StreamingEllerGenerator generator) {
+    List<boolean[]> rows = new ArrayList<>();
+    int width = generator.getWidth();
+    generator.subscribe(
+        (row, passages) -> {
+          assertEquals(rows.size(), row, "Rows must arrive in order");
+          boolean[] open = new boolean[width];
+          for (int col = 0; col < width; col++) {
+            open[col] = (passages[col >>> 6] & (1L << col)) != 0;
+          }
+          rows.add(open);
+        });
+    generator.generate();
+    return rows;
+  }
+
+  // ─── Maze shape ───────────────────────────────────────────────────
+
+  @Test
+  @DisplayName("Rectangular stream is a connected, loop-free maze")
+  void rectangularStreamIsPerfect() {
+    int width = 31;
+    int height = 131;
+    List<boolean[]> rows =
+        collect(new StreamingEllerGenerator(width, height, new SplittableRandom(3)));
+    assertEquals(height, rows.size());
+
+    int open = 0;
+    for (boolean[] row : rows) {
+      for (boolean tile : row) {
+        if (tile) open++;
+      }
+    }
+    int cells = ((width - 1) / 2) * ((height - 1) / 2);
+    assertEquals(2 * cells - 1, open, "Spanning tree opens every cell plus cells - 1 walls");
+
+    // Flood fill from the first cell must reach every open tile
+    boolean[][] seen = new boolean[height][width];
+    int[] queue = new int[width * height];
+    int head = 0;
+    int tail = 0;
+    seen[1][1] = true;
+    queue[tail++] = width + 1;
+    while (head < tail) {
+      int tile = queue[head++];
+      int r = tile / width;
+      int c = tile % width;
+      int[][] steps = {{r - 1, c}, {r + 1, c}, {r, c - 1}, {r, c + 1}};
+      for (int[] s : steps) {
+        if (s[0] >= 0 && s[0] < height && s[1] >= 0 && s[1] < width) {
+          if (rows.get(s[0])[s[1]] && !seen[s[0]][s[1]]) {
+            seen[s[0]][s[1]] = true;
+            queue[tail++] = s[0] * width + s[1];
+          }
+        }
+      }
+    }
+    assertEquals(open, tail, "All open tiles should be reachable");
+  }
+
+  @Test
+  @DisplayName("Border rows and columns stay solid")
+  void bordersAreWalls() {
+    List<boolean[]> rows = collect(new StreamingEllerGenerator(21, 41, new SplittableRandom(9)));
+    for (int col = 0; col < 21; col++) {
+      assertFalse(rows.get(0)[col]);
+      assertFalse(rows.get(40)[col]);
+    }
+    for (boolean[] row : rows) {
+      assertFalse(row[0]);
+      assertFalse(row[20]);
+    }
+  }
+
+  @Test
+  @DisplayName("Grid subscriber matches the streamed rows")
+  void gridSubscriberMatchesStream() {
+    MazeGrid grid = new MazeGrid(51);
+    StreamingEllerGenerator generator =
+        new StreamingEllerGenerator(51, 51, new SplittableRandom(5));
+    generator.subscribe(grid::setPassageRow);
+    List<boolean[]> rows = collect(generator);
+
+    for (int r = 0; r < 51; r++) {
+      for (int c = 0; c < 51; c++) {
+        assertEquals(rows.get(r)[c], grid.isPassage(r, c), "Mismatch at " + r + "," + c);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("A million-row maze streams without holding the board")
+  void millionRowsStream() {
+    int height = 1_000_001;
+    long[] rowsSeen = new long[1];
+    StreamingEllerGenerator generator =
+        new StreamingEllerGenerator(65, height, new SplittableRandom(11));
+    generator.subscribe((row, passages) -> rowsSeen[0]++);
+
+    long opened = generator.generate();
+
+    assertEquals(height, rowsSeen[0]);
+    assertEquals(2L * 32 * (height / 2) - 1, opened);
+  }
+
+  @Test
+  @DisplayName("Invalid dimensions are rejected")
+  void rejectsEvenDimensions() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new StreamingEllerGenerator(10, 11, new SplittableRandom()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new StreamingEllerGenerator(11, 1, new SplittableRandom()));
+  }
+
+  // ─── File writer ──────────────────────────────────────────────────
+
+  @Test
+  @DisplayName("File writer round-trips the streamed rows")
+  void fileWriterRoundTrips(@TempDir File dir) throws IOException {
+    int width = 75;
+    int height = 33;
+    File file = new File(dir, "maze.bin");
+    StreamingEllerGenerator generator =
+        new StreamingEllerGenerator(width, height, new SplittableRandom(21));
+    List<boolean[]> rows;
+    try (MazeRowFileWriter writer = new MazeRowFileWriter(file.getPath(), width, height)) {
+      generator.subscribe(writer);
+      rows = collect(generator);
+    }
+
+    try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+      assertEquals(MazeRowFileWriter.MAGIC, in.readInt());
+      assertEquals(width, in.readInt());
+      assertEquals(height, in.readInt());
+      byte[] rowBytes = new byte[(width + 7) / 8];
+      for (int r = 0; r < height; r++) {
+        in.readFully(rowBytes);
+        for (int c = 0; c < width; c++) {
+          boolean open = (rowBytes[c >>> 3] & (1 << (c & 7))) != 0;
+          assertEquals(rows.get(r)[c], open, "Mismatch at " + r + "," + c);
+        }
+      }
+      assertEquals(-1, in.read(), "No trailing bytes");
+    }
+  }
+}
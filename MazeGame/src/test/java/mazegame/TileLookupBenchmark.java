@@ -0,0 +1,80 @@
+package mazegame;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Collision cost by grid size. Excluded from {@code test}; run with {@code ./gradlew benchmark}.
+ * Boxes are swept through {@link BoxCollider} against the same wall test as {@link Renderer}'s
+ * collision tiles, so the time per sweep should stay flat as the grid grows.
+ */
+@Tag("benchmark")
+class TileLookupBenchmark {
+
+  private static final int TILE_WH = 100;
+  private static final int BOX = 60;
+  private static final int SWEEPS = 1 << 20;
+  private static final int RUNS = 5;
+
+  /** Walls and bounds exactly as the renderer reports them; entries are only counted. */
+  private static final class GridTiles implements BoxCollider.Tiles {
+    private final MazeGrid grid;
+    long entered;
+
+    GridTiles(MazeGrid grid) {
+      this.grid = grid;
+    }
+
+    @Override
+    public boolean isBlocked(int row, int col) {
+      return !grid.inBounds(row, col) || grid.isWall(row, col);
+    }
+
+    @Override
+    public void enter(int row, int col) {
+      entered++;
+    }
+  }
+
+  @Test
+  @DisplayName("Swept collision against the maze, ns per sweep")
+  void sweepCostIsFlat() {
+    for (int size : new int[] {31, 301, 1001, 4001}) {
+      MazeGrid grid = RecursiveBacktracker.carve(size, 1, 1, new SplittableRandom(size));
+      GridTiles tiles = new GridTiles(grid);
+      int cellsPerRow = grid.getCellsPerRow();
+      int inset = (TILE_WH - BOX) / 2;
+      int[] lefts = new int[SWEEPS];
+      int[] tops = new int[SWEEPS];
+      int[] steps = new int[SWEEPS];
+      SplittableRandom rand = new SplittableRandom(1);
+      for (int i = 0; i < SWEEPS; i++) {
+        // Start centred in a random cell and move up to two tiles either way
+        lefts[i] = (rand.nextInt(cellsPerRow) * 2 + 1) * TILE_WH + inset;
+        tops[i] = (rand.nextInt(cellsPerRow) * 2 + 1) * TILE_WH + inset;
+        steps[i] = rand.nextInt(-2 * TILE_WH, 2 * TILE_WH + 1);
+      }
+
+      double best = Double.MAX_VALUE;
+      long moved = 0;
+      for (int run = 0; run < RUNS; run++) {
+        long start = System.nanoTime();
+        for (int i = 0; i < SWEEPS; i++) {
+          if ((i & 1) == 0) {
+            moved +=
+                Math.abs(BoxCollider.sweepX(tiles, TILE_WH, lefts[i], tops[i], BOX, BOX, steps[i]));
+          } else {
+            moved +=
+                Math.abs(BoxCollider.sweepY(tiles, TILE_WH, lefts[i], tops[i], BOX, BOX, steps[i]));
+          }
+        }
+        best = Math.min(best, (double) (System.nanoTime() - start) / SWEEPS);
+      }
+      System.out.printf(
+          "sweep %5d x %-5d %6.2f ns/sweep  (%d px moved, %d tiles entered)%n",
+          size, size, best, moved, tiles.entered);
+    }
+  }
+}
@@ -145,6 +145,8 @@ class TileTest {
     TileWall tw = new TileWall(100, 0, 0);
     tw.setPassageNeighbours("1010");
     assertEquals("wall_1010", tw.getImageString());
+    assertEquals(0b1010, tw.getNeighbourMask());
+    assertEquals("wall_1010", TileWall.imageId(0b1010));
   }
 
   @Test
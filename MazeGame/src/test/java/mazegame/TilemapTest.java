@@ -83,6 +83,17 @@ class TilemapTest {
     assertNull(result);
   }
 
+  @Test
+  @DisplayName("tileIndex floors into half-open tiles and rejects points outside the grid")
+  void tileIndexArithmetic() {
+    assertEquals(0, Tilemap.tileIndex(0, 0, 100, 5));
+    assertEquals(2 * 5 + 3, Tilemap.tileIndex(350, 250, 100, 5));
+    assertEquals(5 + 1, Tilemap.tileIndex(100, 100, 100, 5), "Edges belong to the next tile");
+    assertEquals(24, Tilemap.tileIndex(499, 499, 100, 5));
+    assertEquals(-1, Tilemap.tileIndex(500, 0, 100, 5));
+    assertEquals(-1, Tilemap.tileIndex(0, -1, 100, 5));
+  }
+
   @Test
   @DisplayName("getPassageCount returns 0 for all-wall grid")
   void passageCountAllWalls() {
@@ -105,6 +116,29 @@ class TilemapTest {
     assertEquals(2, tm.getPassageCount(tiles));
   }
 
+  @Test
+  @DisplayName("getTileArr(MazeGrid) builds views that mirror the grid")
+  void tileViewsMirrorGrid() {
+    MazeGrid grid = new MazeGrid(5);
+    grid.setPassage(1, 1);
+    grid.setPassage(1, 2);
+    grid.setExit(1, 3);
+    grid.setKey(1, 2, true);
+    grid.setWallMask(0, 1, MazeGrid.SOUTH);
+    grid.setGrassVariant(1, 1, 2);
+
+    Tilemap tm = new Tilemap(100, 0, 5);
+    Tile[][] tiles = tm.getTileArr(grid);
+
+    assertInstanceOf(TilePassage.class, tiles[1][1]);
+    assertEquals("2", tiles[1][1].getPassageImageId());
+    assertTrue(((TilePassage) tiles[1][2]).hasItem());
+    assertInstanceOf(TileExit.class, tiles[1][3]);
+    assertEquals("wall_0010", tiles[0][1].getImageString());
+    assertEquals(300, tiles[1][3].getMinX());
+    assertEquals(100, tiles[1][3].getMinY());
+  }
+
   @Test
   @DisplayName("getTileWH returns the configured tile width/height")
   void getTileWH() {
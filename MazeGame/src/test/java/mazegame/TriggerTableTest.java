@@ -0,0 +1,59 @@
+package mazegame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TriggerTableTest {
+
+  @Test
+  @DisplayName("Entering a cell fires the handlers of the kinds placed there")
+  void firesPlacedKinds() {
+    List<String> fired = new ArrayList<>();
+    TriggerTable table = new TriggerTable(5);
+    int key = table.register(cell -> fired.add("key " + cell));
+    int exit = table.register(cell -> fired.add("exit " + cell));
+    table.add(key, 6);
+    table.add(exit, 6);
+    table.add(exit, 24);
+
+    table.enter(7);
+    assertTrue(fired.isEmpty());
+    table.enter(6);
+    table.enter(24);
+    assertEquals(List.of("key 6", "exit 6", "exit 24"), fired);
+  }
+
+  @Test
+  @DisplayName("Removed and cleared triggers no longer fire")
+  void removeAndClear() {
+    List<Integer> fired = new ArrayList<>();
+    TriggerTable table = new TriggerTable(3);
+    int key = table.register(fired::add);
+    table.add(key, 4);
+    table.add(key, 8);
+
+    table.remove(key, 4);
+    assertFalse(table.has(key, 4));
+    table.enter(4);
+    assertTrue(fired.isEmpty());
+
+    table.clear();
+    table.enter(8);
+    assertTrue(fired.isEmpty());
+    assertEquals(1, table.register(fired::add)); // kinds survive clear()
+  }
+
+  @Test
+  @DisplayName("Registering more than MAX_KINDS handlers fails")
+  void kindLimit() {
+    TriggerTable table = new TriggerTable(3);
+    for (int i = 0; i < TriggerTable.MAX_KINDS; i++) {
+      assertEquals(i, table.register(cell -> {}));
+    }
+    assertThrows(IllegalStateException.class, () -> table.register(cell -> {}));
+  }
+}